@@ -0,0 +1,287 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncWriter;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryVersionHistoryStorage;
+import seedu.address.storage.JournaledVersionHistoryStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageConverter;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.VersionHistoryStorage;
+
+/**
+ * Sets up and shuts down the components of the application that do not depend on the UI:
+ * the config, storage, model and logic.
+ * Used by both {@code MainApp} and {@code HeadlessApp}, so that the application can run with or without its window.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    protected Config config;
+
+    private AsyncWriter storageWriter;
+    private boolean hasSavedData;
+
+    /**
+     * Loads the config, preferences and data, and sets up the logic using the command-line {@code appParameters}.
+     * Runs the script given in {@code appParameters}, if there is one.
+     */
+    public void init(AppParameters appParameters) {
+        long phaseStartTime = System.nanoTime();
+        config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+        phaseStartTime = logPhase("config", phaseStartTime);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        phaseStartTime = logPhase("prefs", phaseStartTime);
+
+        storageWriter = new AsyncWriter();
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        VersionHistoryStorage versionHistoryStorage = initVersionHistoryStorage(config);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, storageWriter);
+
+        model = initModelManager(storage, userPrefs);
+        phaseStartTime = logPhase("data", phaseStartTime);
+
+        // the version history is loaded in the background, and its phase is logged by LogicManager
+        LogicManager logicManager = new LogicManager(model, storage, versionHistoryStorage, hasSavedData);
+        storageWriter.setErrorHandler(logicManager::reportSaveError);
+        logic = logicManager;
+        phaseStartTime = logPhase("logic", phaseStartTime);
+
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath());
+            logPhase("script", phaseStartTime);
+        }
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Saves the preferences and waits for the data saved in the background to be written.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        // writes everything that was saved in the background before the application exits
+        storageWriter.shutdown();
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath} before any command is entered, logging the outcome.
+     * If any command fails, none of them take effect and the application starts with the data unchanged.
+     */
+    private void runScript(Path scriptPath) {
+        logger.info("Running script : " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Script " + scriptPath + " was not run: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Logs how long the startup phase named {@code phase}, which started at {@code phaseStartTime}, took.
+     *
+     * @return the time at which the next phase starts.
+     */
+    static long logPhase(String phase, long phaseStartTime) {
+        long phaseEndTime = System.nanoTime();
+        logger.info(String.format(LogicManager.STARTUP_PHASE_LOG_FORMAT, phase,
+                TimeUnit.NANOSECONDS.toMillis(phaseEndTime - phaseStartTime)));
+        return phaseEndTime;
+    }
+
+    /**
+     * Returns the address book storage of the format chosen in {@code config}.
+     * Data stored in the other format is converted if it was saved more recently than the data in the chosen format.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+        boolean isBinary = config.getStorageFormat() == Config.StorageFormat.BINARY;
+        AddressBookStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        try {
+            StorageConverter.convertAddressBook(isBinary ? jsonStorage : binaryStorage, chosenStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to convert data file : " + StringUtil.getDetails(e));
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the version history storage of the format chosen in {@code config}.
+     * A version history stored in the other format is converted if it was saved more recently than the one in the
+     * chosen format.
+     */
+    private VersionHistoryStorage initVersionHistoryStorage(Config config) {
+        Path jsonFilePath = config.getVersionHistoryFilePath();
+        VersionHistoryStorage jsonStorage = new JournaledVersionHistoryStorage(jsonFilePath, storageWriter);
+        VersionHistoryStorage binaryStorage = new BinaryVersionHistoryStorage(
+                BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath), storageWriter);
+        boolean isBinary = config.getStorageFormat() == Config.StorageFormat.BINARY;
+        VersionHistoryStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        try {
+            StorageConverter.convertVersionHistory(isBinary ? jsonStorage : binaryStorage, chosenStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to convert version history file : " + StringUtil.getDetails(e));
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Records in {@code hasSavedData} whether the data was loaded from {@code storage}.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            hasSavedData = addressBookOptional.isPresent();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.ListMarkers.LIST_GROUP_MARKER;
+import static seedu.address.logic.ListMarkers.LIST_GROUP_TASK_MARKER;
+import static seedu.address.logic.ListMarkers.LIST_STUDENT_MARKER;
+import static seedu.address.logic.ListMarkers.LIST_TASK_MARKER;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.State;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+
+/**
+ * Runs the application without its window, reading one command per line from an input and printing
+ * the results as text. JavaFX is never started, so no display is needed and startup skips loading the UI.
+ * Lists are printed whenever a command changes the list that the window would show.
+ */
+public class HeadlessApp {
+
+    /** The exit status when any command failed, so that scripts can tell that the input was not fully applied. */
+    public static final int EXIT_STATUS_COMMAND_FAILED = 1;
+    public static final String PROMPT = "> ";
+    public static final String MESSAGE_EMPTY_LIST = "(no entries)";
+
+    private static final State GROUP_STATE = new State("Groups");
+    private static final State GROUP_TASK_STATE = new State("GroupTask");
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final BufferedReader input;
+    private final PrintStream output;
+    private final boolean isInteractive;
+    // also set by the handler of saves that fail in the background
+    private volatile boolean hasFailedCommand;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes the commands read from {@code input} through {@code logic},
+     * printing the results to {@code output}. A prompt is printed before each command if {@code isInteractive}.
+     */
+    public HeadlessApp(Logic logic, BufferedReader input, PrintStream output, boolean isInteractive) {
+        requireNonNull(logic);
+        requireNonNull(input);
+        requireNonNull(output);
+        this.logic = logic;
+        this.input = input;
+        this.output = output;
+        this.isInteractive = isInteractive;
+    }
+
+    /**
+     * Starts the application without its window, with the given command-line {@code args},
+     * and reads commands from standard input until {@code exit} or the end of the input.
+     */
+    public static void launch(String[] args) {
+        logger.info("=========================[ Initializing T_Assistant (CLI) ]=========================");
+        AppInitializer appInitializer = new AppInitializer();
+        appInitializer.init(AppParameters.parse(args));
+
+        BufferedReader standardInput = new BufferedReader(new InputStreamReader(System.in));
+        HeadlessApp app = new HeadlessApp(appInitializer.getLogic(), standardInput, System.out,
+                System.console() != null);
+        boolean isSuccessful;
+        try {
+            isSuccessful = app.run();
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            isSuccessful = false;
+        }
+
+        logger.info("========================== [ Stopping T_Assistant (CLI) ] ==========================");
+        appInitializer.stop();
+        if (!isSuccessful || app.hasFailedCommand) {
+            System.exit(EXIT_STATUS_COMMAND_FAILED);
+        }
+    }
+
+    /**
+     * Executes the commands read from the input until {@code exit} or the end of the input.
+     *
+     * @return true if every command succeeded.
+     * @throws IOException if the input cannot be read.
+     */
+    public boolean run() throws IOException {
+        logic.setSaveErrorHandler(this::reportFailure);
+        boolean isExiting = false;
+        while (!isExiting) {
+            if (isInteractive) {
+                output.print(PROMPT);
+                output.flush();
+            }
+            String commandText = input.readLine();
+            if (commandText == null) {
+                break;
+            }
+            if (!commandText.isBlank()) {
+                isExiting = execute(commandText.trim());
+            }
+        }
+        return !hasFailedCommand;
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result.
+     *
+     * @return true if the application should exit.
+     */
+    private boolean execute(String commandText) {
+        CommandResult commandResult;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            reportFailure(e.getMessage());
+            return false;
+        }
+        // the group lists show the most recently displayed group, as they do in the window
+        if (logic.getState().equals(GROUP_TASK_STATE)) {
+            logic.setMostRecentGroupTaskDisplay();
+        } else if (logic.getState().equals(GROUP_STATE)) {
+            logic.setMostRecentGroupDisplay();
+        }
+        output.println(commandResult.getFeedbackToUser());
+        if (commandResult.getChangeState() != -1) {
+            output.println(formatList(commandResult.getChangeState()));
+        }
+        return commandResult.isExit();
+    }
+
+    private void reportFailure(String message) {
+        hasFailedCommand = true;
+        output.println(message);
+    }
+
+    /**
+     * Returns the list shown for the change state marker {@code changeState}, one numbered entry per line,
+     * as the panel of the window would show it.
+     */
+    private String formatList(int changeState) {
+        switch (changeState) {
+        case LIST_STUDENT_MARKER:
+            return formatEntries(logic.getFilteredPersonList(), Messages::format);
+        case LIST_GROUP_MARKER:
+            return formatEntries(logic.getFilteredGroupList(), this::formatGroupWithMembers);
+        case LIST_TASK_MARKER:
+            return formatEntries(logic.getFilteredTaskList(), Messages::format);
+        case LIST_GROUP_TASK_MARKER:
+            return formatEntries(logic.getFilteredGroupList(), HeadlessApp::formatGroupWithTasks);
+        default:
+            return "";
+        }
+    }
+
+    private static <T> String formatEntries(List<T> entries, Function<T, String> formatter) {
+        if (entries.isEmpty()) {
+            return MESSAGE_EMPTY_LIST;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                builder.append("\n");
+            }
+            builder.append(i + 1).append(". ").append(formatter.apply(entries.get(i)));
+        }
+        return builder.toString();
+    }
+
+    private String formatGroupWithMembers(Group group) {
+        return logic.getPersonsInGroup(group).stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", ", Messages.format(group) + "; Members: ", ""));
+    }
+
+    private static String formatGroupWithTasks(Group group) {
+        return group.getTasks().stream()
+                .map(task -> "\n    - " + Messages.format(task))
+                .collect(Collectors.joining("", Messages.format(group) + " Tasks", ""));
+    }
+}
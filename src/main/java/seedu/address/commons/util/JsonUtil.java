@@ -2,16 +2,26 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -92,6 +102,94 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes JSON content to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads JSON content from a {@code JsonParser} positioned before its first token.
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Writes the JSON content produced by {@code writer} to the specified file as it is generated, without
+     * holding the whole document in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonStream(Path filePath, JsonStreamWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            writer.write(generator);
+        }
+    }
+
+    /**
+     * Returns the value read by {@code reader} from the given file as it is parsed, without holding the whole
+     * document in memory, or {@code Optional.empty()} if the file is not found.
+     * Objects read from the parser with {@code JsonParser#readValueAs} use the same settings as
+     * {@link #readJsonFile(Path, Class)}.
+     *
+     * @throws DataLoadingException if loading of the JSON file failed.
+     */
+    public static <T> Optional<T> readJsonStream(Path filePath, JsonStreamReader<T> reader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(reader.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the array or null value at the current token of {@code parser} into {@code elements}, one element
+     * at a time.
+     * @throws IOException if the current value is neither an array nor null, or an element cannot be read.
+     */
+    public static <T> void readArray(JsonParser parser, Class<T> elementClass, List<T> elements)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + elementClass.getSimpleName());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(parser.readValueAs(elementClass));
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the start of the root object.
+     * @throws IOException if the content does not start with an object.
+     */
+    public static void startObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +209,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string, without any whitespace
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -11,6 +13,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.student.Student;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
 
 /**
@@ -43,6 +46,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of tasks */
     ObservableList<Task> getFilteredTaskList();
 
+    /**
+     * Returns the groups holding {@code task} with the given {@code status}.
+     *
+     * @see seedu.address.model.Model#getGroupsWithTask(Task, Status)
+     */
+    List<Group> getGroupsWithTask(Task task, Status status);
+
+    /**
+     * Returns the members of {@code group}.
+     *
+     * @see seedu.address.model.Model#getPersonsInGroup(Group)
+     */
+    List<Student> getPersonsInGroup(Group group);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -58,6 +75,12 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Sets the handler that is given the error message of every save that fails after its command has returned.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     String getMostRecentGroupTaskDisplay();
 
     void setMostRecentGroupTaskDisplay(String string);
@@ -84,6 +107,11 @@ public interface Logic {
 
     State getState();
 
-    void setStatus();
+    /**
+     * Marks the tasks whose deadlines have passed as overdue.
+     *
+     * @return true if any task became overdue.
+     */
+    boolean setStatus();
 
 }
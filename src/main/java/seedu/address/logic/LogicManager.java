@@ -1,8 +1,16 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,17 +18,19 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.State;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.DataFingerprint;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.VersionHistory;
 import seedu.address.model.group.Group;
 import seedu.address.model.student.Student;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
 import seedu.address.storage.Storage;
 import seedu.address.storage.VersionHistoryStorage;
@@ -34,39 +44,114 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Format of the log line that reports how long a phase of startup took, in milliseconds. */
+    public static final String STARTUP_PHASE_LOG_FORMAT = "Startup phase [%s] took %d ms";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
     private final VersionHistoryStorage versionHistoryStorage;
+    private final CompletableFuture<VersionHistory> pendingVersionHistory;
     private VersionHistory versionHistory;
+    private Consumer<String> saveErrorHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Reads the address book in {@code storage} to find out whether {@code model} holds saved data.
      */
     public LogicManager(Model model, Storage storage, VersionHistoryStorage versionHistoryStorage) {
+        this(model, storage, versionHistoryStorage, hasSavedAddressBook(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code model} holds the data saved in {@code storage}, the saved version history is loaded on a background
+     * thread and is waited for only when it is first needed. Otherwise, the version history starts afresh.
+     * A saved version history that was not saved with the data in {@code model} is discarded.
+     */
+    public LogicManager(Model model, Storage storage, VersionHistoryStorage versionHistoryStorage,
+                        boolean hasSavedData) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
         this.versionHistoryStorage = versionHistoryStorage;
-        VersionHistory tempVersionHistory = new VersionHistory();
+        if (hasSavedData) {
+            ReadOnlyAddressBook savedData = model.getAddressBookSnapshot();
+            pendingVersionHistory = CompletableFuture.supplyAsync(() -> loadVersionHistory(savedData))
+                    .exceptionally(this::recoverVersionHistory);
+        } else {
+            VersionHistory newVersionHistory = new VersionHistory();
+            newVersionHistory.addVersion(model);
+            pendingVersionHistory = CompletableFuture.completedFuture(newVersionHistory);
+        }
+        model.setStatus();
+    }
+
+    private static boolean hasSavedAddressBook(Storage storage) {
         try {
-            tempVersionHistory = versionHistoryStorage.readVersionHistory().orElseGet(() -> new VersionHistory());
-        } catch (DataLoadingException e) {
-            tempVersionHistory = new VersionHistory();
+            return storage.readAddressBook().isPresent();
+        } catch (DataLoadingException dle) {
+            return false;
         }
-        this.versionHistory = tempVersionHistory;
+    }
+
+    /**
+     * Reads the version history of {@code savedData} from storage.
+     * Runs on a background thread, so it must not touch the model.
+     */
+    private VersionHistory loadVersionHistory(ReadOnlyAddressBook savedData) {
+        long startTime = System.nanoTime();
+        VersionHistory loadedVersionHistory;
         try {
-            if (storage.readAddressBook().isEmpty()) {
-                this.versionHistory = new VersionHistory();
-                versionHistory.addVersion(model);
+            Optional<VersionHistory> savedVersionHistory = versionHistoryStorage.readVersionHistory();
+            if (savedVersionHistory.isPresent() && !isVersionHistoryOf(savedVersionHistory.get(), savedData)) {
+                // its changes would be replayed on the wrong rows, such as after the data file was edited
+                logger.warning("Version history was not saved with the data loaded. "
+                        + "Starting with an empty version history.");
+                savedVersionHistory = Optional.empty();
             }
-        } catch (DataLoadingException dle) {
-            this.versionHistory = new VersionHistory();
-            versionHistory.addVersion(model);
+            loadedVersionHistory = savedVersionHistory.orElseGet(VersionHistory::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Version history could not be loaded. Starting with an empty version history.");
+            loadedVersionHistory = new VersionHistory();
         }
-        model.setStatus();
+        if (loadedVersionHistory.getCurrentVersionIndex() == -1) {
+            // the data in the model is the base version, and it has not been changed since it was loaded
+            loadedVersionHistory.setCurrentVersionIndex(0);
+        }
+        logger.info(String.format(STARTUP_PHASE_LOG_FORMAT, "history",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return loadedVersionHistory;
+    }
+
+    /**
+     * Returns an empty version history in place of the one whose loading failed unexpectedly with {@code error},
+     * such as on a hand-edited version history file, so that later commands are still recorded.
+     */
+    private VersionHistory recoverVersionHistory(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.warning("Version history could not be loaded. Starting with an empty version history. "
+                + StringUtil.getDetails(cause));
+        VersionHistory versionHistory = new VersionHistory();
+        versionHistory.setCurrentVersionIndex(0);
+        return versionHistory;
+    }
+
+    private static boolean isVersionHistoryOf(VersionHistory versionHistory, ReadOnlyAddressBook data) {
+        Long dataFingerprint = versionHistory.getDataFingerprint();
+        return dataFingerprint != null && dataFingerprint == DataFingerprint.of(data);
+    }
+
+    /**
+     * Returns the version history, waiting for it to be loaded if necessary.
+     */
+    private VersionHistory getVersionHistory() {
+        if (versionHistory == null) {
+            versionHistory = pendingVersionHistory.join();
+        }
+        return versionHistory;
     }
 
     @Override
@@ -74,31 +159,55 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-        if (versionHistory.getCurrentVersionIndex() == -1) {
-            versionHistory.addVersion(model);
+        // a command that fails half-way must not leave its earlier changes behind
+        model.beginTransaction();
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+        if (command.isReadOnly()) {
+            // nothing changed, so there is no version to record and nothing to save
+            model.setStatus();
+            return commandResult;
         }
-        this.versionHistory = command.updateVersionHistory(versionHistory, model);
+        this.versionHistory = command.updateVersionHistory(getVersionHistory(), model);
+        model.setStatus();
+        ReadOnlyAddressBook savedData = model.getAddressBookSnapshot();
+        versionHistory.setCurrentData(savedData);
         try {
-            ReadOnlyAddressBook tempAddressBook =
-                    versionHistory.getVersions().get(versionHistory.getCurrentVersionIndex());
-            ReadOnlyAddressBook currentAddressBook = new AddressBook().duplicateCopy(tempAddressBook);
-            model.setAddressBook(currentAddressBook);
-            storage.saveAddressBook(currentAddressBook);
+            storage.saveAddressBook(savedData);
             storage.saveUserPrefs(model.getUserPrefs());
             versionHistoryStorage.saveVersionHistory(versionHistory);
-            model.setStatus();
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        } catch (IndexOutOfBoundsException iob) {
-            return commandResult;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Reports {@code e}, thrown while saving in the background, to the save error handler.
+     */
+    public void reportSaveError(IOException e) {
+        saveErrorHandler.accept(getSaveErrorMessage(e));
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -119,6 +228,16 @@ public class LogicManager implements Logic {
         return model.getFilteredTaskList();
     }
 
+    @Override
+    public List<Group> getGroupsWithTask(Task task, Status status) {
+        return model.getGroupsWithTask(task, status);
+    }
+
+    @Override
+    public List<Student> getPersonsInGroup(Group group) {
+        return model.getPersonsInGroup(group);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -201,7 +320,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void setStatus() {
-        this.model.setStatus();
+    public boolean setStatus() {
+        return this.model.setStatus();
     }
 }
@@ -26,6 +26,14 @@ public abstract class Command {
     public abstract VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model)
             throws CommandException;
 
+    /**
+     * Returns true if this command never modifies the address book or the version history.
+     * Such commands do not need a new version to be recorded or anything to be saved after they are executed.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     public void updateTaskStatus(Model model) {
         model.setStatus();
     }
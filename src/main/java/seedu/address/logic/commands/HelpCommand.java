@@ -25,4 +25,9 @@ public class HelpCommand extends Command {
     public VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model) throws CommandException {
         return versionHistory;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,152 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.VersionHistory;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * The commands are applied together: they are recorded as one version and saved once, and if any of them fails,
+ * none of them take effect.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Runs the commands in a script file, one command per line. "
+        + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped. "
+        + "If any command fails, none of the commands take effect.\n"
+        + "Parameters: FILE_PATH\n"
+        + "Example: " + COMMAND_WORD + " data/semester_setup.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d (%2$s): %3$s\n"
+        + "None of the commands in the script took effect.";
+
+    private final Path scriptPath;
+    private final List<ScriptLine> lines;
+
+    /**
+     * Creates a RunCommand to run the commands parsed from the lines of the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath, List<ScriptLine> lines) {
+        requireNonNull(scriptPath);
+        requireNonNull(lines);
+        this.scriptPath = scriptPath;
+        this.lines = List.copyOf(lines);
+    }
+
+    /**
+     * A command in a script, with the line it was parsed from.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final String text;
+        private final Command command;
+
+        /**
+         * Creates a {@code ScriptLine} for {@code command}, parsed from {@code text} at line {@code lineNumber}.
+         */
+        public ScriptLine(int lineNumber, String text, Command command) {
+            requireNonNull(text);
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.text = text;
+            this.command = command;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherScriptLine = (ScriptLine) other;
+            return lineNumber == otherScriptLine.lineNumber
+                && text.equals(otherScriptLine.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, text);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                .add("lineNumber", lineNumber)
+                .add("text", text)
+                .toString();
+        }
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        for (ScriptLine line : lines) {
+            try {
+                line.getCommand().execute(model);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, line.getLineNumber(), line.getText(),
+                    e.getMessage()), e);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), scriptPath));
+    }
+
+    @Override
+    public VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model) throws CommandException {
+        versionHistory.addVersion(model);
+        return versionHistory;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+            && lines.equals(otherRunCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("scriptPath", scriptPath)
+            .add("lines", lines)
+            .toString();
+    }
+}
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.ListMarkers.LIST_GROUP_MARKER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_NAME;
 
-import java.util.List;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -45,27 +43,16 @@ public class DeleteGroupCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Group> lastShownList = model.getAddressBook().getGroupList();
-
-        // find group
-        boolean hasFoundTarget = false;
-        Group groupToBeDeleted = null;
 
-        for (Group group : lastShownList) {
-            if (group.getGroupName().equals(targetGroupName)) {
-                hasFoundTarget = true;
-                groupToBeDeleted = group;
-                break;
-            }
-        }
-        if (!hasFoundTarget) {
+        Group groupToBeDeleted = model.getGroupByName(targetGroupName);
+        if (groupToBeDeleted == null) {
             throw new CommandException(Messages.MESSAGE_GROUP_NAME_NOT_FOUND);
         }
 
         // remove students from group
         int studentsAffected = 0;
         if (groupToBeDeleted.hasStudents()) {
-            for (Student student : groupToBeDeleted.getStudents()) {
+            for (Student student : model.getPersonsInGroup(groupToBeDeleted)) {
                 // update group in student
                 // have to do here else there will be an error
                 model.setPerson(student, student.removeGroup());
@@ -50,12 +50,11 @@ public class DeleteTaskForAllGroupsCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Task> lastShownList = new ArrayList<>(model.getAddressBook().getTaskList());
-        List<Group> groupList = new ArrayList<>(model.getFilteredGroupList());
         if (taskIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(MESSAGE_INVALID_DISPLAYED_INDEX);
         }
         Task targetTask = lastShownList.get(taskIndex.getZeroBased());
-        List<Group> toBeDeletedFrom = getGroupsToBeDeletedFrom(groupList, targetTask);
+        List<Group> toBeDeletedFrom = model.getGroupsWithTask(targetTask);
         updateTaskInGroup(toBeDeletedFrom, targetTask, model);
         model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
         String formattedGroups = toBeDeletedFrom.stream()
@@ -92,15 +91,6 @@ public class DeleteTaskForAllGroupsCommand extends Command {
         return versionHistory;
     }
 
-    private List<Group> getGroupsToBeDeletedFrom(List<Group> groups, Task targetTask) {
-        List<Group> toBeDeletedFrom = new ArrayList<Group>();
-        for (Group group : groups) {
-            if (group.hasTask(targetTask)) {
-                toBeDeletedFrom.add(group);
-            }
-        }
-        return toBeDeletedFrom;
-    }
     private void updateTaskInGroup(List<Group> groups, Task task, Model model) {
         for (Group group : groups) {
             model.deleteTaskFromGroup(task, group);
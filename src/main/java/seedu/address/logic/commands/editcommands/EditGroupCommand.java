@@ -23,6 +23,7 @@ import seedu.address.model.VersionHistory;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.task.Task;
 
 /**
@@ -81,7 +82,7 @@ public class EditGroupCommand extends Command {
         }
 
         if (groupToEdit.hasStudents()) {
-            for (Student student : groupToEdit.getStudents()) {
+            for (Student student : model.getPersonsInGroup(groupToEdit)) {
                 Student studentUpdate = student.addGroup(editedGroup.getGroupName());
                 model.setPerson(student, studentUpdate);
             }
@@ -101,9 +102,9 @@ public class EditGroupCommand extends Command {
         assert groupToEdit != null;
 
         GroupName updatedName = editGroupDescriptor.getName().orElse(groupToEdit.getGroupName());
-        Set<Student> students = groupToEdit.getStudents();
+        Set<StudentNumber> studentNumbers = groupToEdit.getStudentNumbers();
         Set<Task> tasks = groupToEdit.getTasks();
-        return new Group(updatedName, students, tasks);
+        return new Group(updatedName, studentNumbers, tasks);
     }
 
     @Override
@@ -25,7 +25,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.VersionHistory;
-import seedu.address.model.group.Group;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
@@ -118,12 +117,11 @@ public class EditStudentCommand extends Command {
             String errorMessage = String.join("\n", errorMessages);
             throw new CommandException(errorMessage);
         }
-        model.setPerson(studentToEdit, editedStudent);
+        // the group refers to the student by student number, which is not edited, so only the student changes
         if (studentToEdit.getGroupName().isPresent()) {
-            Group originalStudentGroup = model.getGroupByName(studentToEdit.getGroupName().get());
-            originalStudentGroup.delete(studentToEdit);
-            model.addPersonToGroup(editedStudent, originalStudentGroup);
+            editedStudent = editedStudent.setStudentGroup(studentToEdit.getGroupName().get());
         }
+        model.setPerson(studentToEdit, editedStudent);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         if (!errorMessages.isEmpty()) {
             return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedStudent)) + "\n"
@@ -69,7 +69,6 @@ public class EditTaskAllGroupCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Task> lastShownList = model.getAddressBook().getTaskList();
-        List<Group> groups = model.getAddressBook().getGroupList();
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
         }
@@ -79,10 +78,8 @@ public class EditTaskAllGroupCommand extends Command {
         if (taskToEdit.isSameTask(editedTask)) {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         }
-        for (Group group : groups) {
-            if (group.hasTask(taskToEdit)) {
-                updateTaskInGroup(model, group, index, editedTask, taskToEdit);
-            }
+        for (Group group : model.getGroupsWithTask(taskToEdit)) {
+            updateTaskInGroup(model, group, index, editedTask, taskToEdit);
         }
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS,
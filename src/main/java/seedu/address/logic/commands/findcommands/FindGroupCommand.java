@@ -61,6 +61,11 @@ public class FindGroupCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -39,7 +39,7 @@ public class FindStudentCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.searchPersons(predicate));
         model.setStateStudents();
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(NO_STUDENTS_FOUND, LIST_STUDENT_MARKER);
@@ -54,6 +54,11 @@ public class FindStudentCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
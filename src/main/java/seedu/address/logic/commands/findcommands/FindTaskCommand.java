@@ -43,7 +43,7 @@ public class FindTaskCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        model.updateFilteredTaskList(model.searchTasks(predicate));
         logger.info(String.format("Found %1s tasks with predicate - %2s", model.getFilteredTaskList().size(),
             predicate));
         if (model.getFilteredTaskList().isEmpty()) {
@@ -58,6 +58,11 @@ public class FindTaskCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,137 @@
+package seedu.address.logic.commands.findcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DEADLINE;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.VersionHistory;
+import seedu.address.model.group.Group;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+/**
+ * Finds and lists all tasks due within a period, together with the groups that have not completed each of them.
+ * The period is either given by its start and end, or starts now and lasts a number of days.
+ * The tasks are listed in the feedback only, leaving the displayed task list as it is, so that the command takes
+ * time proportional to the number of tasks due rather than to the number of all tasks.
+ */
+public class FindTaskDueCommand extends Command {
+    public static final String COMMAND_WORD = "due_t";
+    public static final String COMMAND_WORD_ALIAS = "dut";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + "/" + COMMAND_WORD_ALIAS
+        + ": Finds all tasks due within the given number of days from now, or between the two given deadlines "
+        + "(inclusive), and lists the groups that have not completed each of them.\n"
+        + "Parameters: DAYS or " + PREFIX_TASK_DEADLINE + "FROM (YYYY-MM-DD HHmm) "
+        + PREFIX_TASK_DEADLINE + "TO (YYYY-MM-DD HHmm)\n"
+        + "Examples: " + COMMAND_WORD + " 7, "
+        + COMMAND_WORD + " " + PREFIX_TASK_DEADLINE + "2024-10-14 0000 " + PREFIX_TASK_DEADLINE + "2024-10-20 2359";
+    public static final String MESSAGE_TASKS_DUE = "%1$d task(s) due from %2$s to %3$s:";
+    public static final String MESSAGE_NO_TASKS_DUE = "No tasks due from %1$s to %2$s";
+    public static final String MESSAGE_NOT_COMPLETED_BY = "; not completed by: ";
+    public static final String MESSAGE_COMPLETED_BY_ALL = "; completed by all groups";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int days;
+
+    /**
+     * Creates a command that finds the tasks due from {@code from} to {@code to}, both inclusive.
+     */
+    public FindTaskDueCommand(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+        this.days = 0;
+    }
+
+    /**
+     * Creates a command that finds the tasks due from the time it is executed until {@code days} days later.
+     */
+    public FindTaskDueCommand(int days) {
+        this.from = null;
+        this.to = null;
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime start = from != null ? from : LocalDateTime.now(Task.TIME_ZONE);
+        LocalDateTime end = from != null ? to : start.plusDays(days);
+
+        List<Task> dueTasks = model.getTasksDueBetween(start, end);
+        if (dueTasks.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_TASKS_DUE, new Deadline(start), new Deadline(end)));
+        }
+        StringBuilder feedback = new StringBuilder(
+            String.format(MESSAGE_TASKS_DUE, dueTasks.size(), new Deadline(start), new Deadline(end)));
+        for (Task task : dueTasks) {
+            feedback.append("\n").append(Messages.format(task)).append(formatGroupsNotCompleted(model, task));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns the groups holding {@code task} that have not completed it, for display to the user.
+     */
+    private static String formatGroupsNotCompleted(Model model, Task task) {
+        List<Group> notCompleted = new ArrayList<>(model.getGroupsWithTask(task, Status.PENDING));
+        notCompleted.addAll(model.getGroupsWithTask(task, Status.OVERDUE));
+        if (notCompleted.isEmpty()) {
+            return MESSAGE_COMPLETED_BY_ALL;
+        }
+        return notCompleted.stream()
+            .map(Messages::format)
+            .collect(Collectors.joining(", ", MESSAGE_NOT_COMPLETED_BY, ""));
+    }
+
+    @Override
+    public VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model) throws CommandException {
+        return versionHistory;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindTaskDueCommand)) {
+            return false;
+        }
+
+        FindTaskDueCommand otherFindTaskDueCommand = (FindTaskDueCommand) other;
+        return Objects.equals(from, otherFindTaskDueCommand.from)
+            && Objects.equals(to, otherFindTaskDueCommand.to)
+            && days == otherFindTaskDueCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("from", from)
+            .add("to", to)
+            .add("days", days)
+            .toString();
+    }
+}
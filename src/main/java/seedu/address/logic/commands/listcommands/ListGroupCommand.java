@@ -39,6 +39,11 @@ public class ListGroupCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -38,6 +38,11 @@ public class ListStudentCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
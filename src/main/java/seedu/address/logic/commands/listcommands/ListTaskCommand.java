@@ -74,6 +74,11 @@ public class ListTaskCommand extends Command {
         return versionHistory;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
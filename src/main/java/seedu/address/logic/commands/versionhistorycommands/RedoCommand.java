@@ -39,7 +39,7 @@ public class RedoCommand extends Command {
     @Override
     public VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model) throws CommandException {
         try {
-            versionHistory.redoVersion();
+            versionHistory.redoVersion(model);
         } catch (RedoLimitException e) {
             throw new CommandException(e.getMessage());
         }
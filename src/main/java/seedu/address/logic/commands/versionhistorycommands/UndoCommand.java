@@ -39,7 +39,7 @@ public class UndoCommand extends Command {
     @Override
     public VersionHistory updateVersionHistory(VersionHistory versionHistory, Model model) throws CommandException {
         try {
-            versionHistory.undoVersion();
+            versionHistory.undoVersion(model);
         } catch (UndoLimitException e) {
             throw new CommandException(e.getMessage());
         }
@@ -12,6 +12,7 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.addcommands.AddExistingTaskToGroupCommand;
 import seedu.address.logic.commands.addcommands.AddGroupCommand;
 import seedu.address.logic.commands.addcommands.AddStudentCommand;
@@ -30,6 +31,7 @@ import seedu.address.logic.commands.editcommands.EditTaskCommand;
 import seedu.address.logic.commands.findcommands.FindGroupCommand;
 import seedu.address.logic.commands.findcommands.FindStudentCommand;
 import seedu.address.logic.commands.findcommands.FindTaskCommand;
+import seedu.address.logic.commands.findcommands.FindTaskDueCommand;
 import seedu.address.logic.commands.listcommands.ListGroupCommand;
 import seedu.address.logic.commands.listcommands.ListStudentCommand;
 import seedu.address.logic.commands.listcommands.ListTaskCommand;
@@ -58,6 +60,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.findcommands.FindGroupCommandParser;
 import seedu.address.logic.parser.findcommands.FindStudentCommandParser;
 import seedu.address.logic.parser.findcommands.FindTaskCommandParser;
+import seedu.address.logic.parser.findcommands.FindTaskDueCommandParser;
 import seedu.address.logic.parser.listcommands.ListGroupCommandParser;
 import seedu.address.logic.parser.listcommands.ListStudentCommandParser;
 import seedu.address.logic.parser.listcommands.ListTaskCommandParser;
@@ -161,6 +164,10 @@ public class AddressBookParser {
         case FindTaskCommand.COMMAND_WORD:
             return new FindTaskCommandParser().parse(arguments);
 
+        case FindTaskDueCommand.COMMAND_WORD_ALIAS:
+        case FindTaskDueCommand.COMMAND_WORD:
+            return new FindTaskDueCommandParser().parse(arguments);
+
         case AddTaskToGroupCommand.COMMAND_WORD_ALIAS:
         case AddTaskToGroupCommand.COMMAND_WORD:
             return new AddTaskToGroupCommandParser().parse(arguments);
@@ -213,6 +220,9 @@ public class AddressBookParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,113 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.ScriptLine;
+import seedu.address.logic.commands.versionhistorycommands.RedoCommand;
+import seedu.address.logic.commands.versionhistorycommands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object, parsing every command in the script it names.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /** The most lines whose errors are listed, so that a wrong file does not flood the result display. */
+    public static final int MAX_REPORTED_ERRORS = 20;
+    public static final String MESSAGE_INVALID_PATH = "The file path provided is invalid";
+    public static final String MESSAGE_CANNOT_READ = "Could not read the script %1$s";
+    public static final String MESSAGE_INVALID_LINES = "The script has %1$d invalid line(s), "
+        + "so none of its commands were run:";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "This command cannot be used in a script";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read,
+     *     or any line of the script is not a valid command
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+
+        Path scriptPath = Paths.get(trimmedArgs);
+        List<String> texts;
+        try {
+            texts = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ, scriptPath));
+        }
+        return new RunCommand(scriptPath, parseLines(texts));
+    }
+
+    /**
+     * Parses every line of a script, skipping blank lines and comments.
+     *
+     * @throws ParseException listing the lines that are not valid commands, if there are any
+     */
+    private static List<ScriptLine> parseLines(List<String> texts) throws ParseException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<ScriptLine> lines = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i).trim();
+            if (text.isEmpty() || text.startsWith(RunCommand.COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                Command command = addressBookParser.parseCommand(text);
+                if (!isAllowedInScript(command)) {
+                    throw new ParseException(MESSAGE_NOT_IN_SCRIPT);
+                }
+                lines.add(new ScriptLine(i + 1, text, command));
+            } catch (ParseException e) {
+                errors.add(String.format(MESSAGE_INVALID_LINE, i + 1, text, e.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ParseException(formatErrors(errors));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns true if {@code command} can run as part of a script. Commands that move through the version history,
+     * run other scripts or act on the window cannot.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof UndoCommand
+            || command instanceof RedoCommand
+            || command instanceof RunCommand
+            || command instanceof ExitCommand
+            || command instanceof HelpCommand);
+    }
+
+    private static String formatErrors(List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_LINES, errors.size()));
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> message.append("\n").append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            message.append("\n").append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.parser.findcommands;
+
+import static seedu.address.logic.Messages.MESSAGE_ILLEGAL_PREFIX_USED;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DEADLINE;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.findcommands.FindTaskDueCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindTaskDueCommand object
+ */
+public class FindTaskDueCommandParser implements Parser<FindTaskDueCommand> {
+
+    /** About a century, which keeps the end of the period within the range of dates. */
+    public static final int MAX_DAYS = 36500;
+    public static final String MESSAGE_INVALID_DAYS = "The number of days must be a whole number from 0 to "
+        + MAX_DAYS + ".";
+    public static final String MESSAGE_INVALID_PERIOD = "The start of the period must not be after its end.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindTaskDueCommand
+     * and returns an FindTaskDueCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindTaskDueCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TASK_DEADLINE);
+
+        List<Prefix> invalidPrefixes = new ArrayList<>(ALL_PREFIX);
+        invalidPrefixes.remove(PREFIX_TASK_DEADLINE);
+        if (containsInvalidPrefix(args, invalidPrefixes)) {
+            throw new ParseException(MESSAGE_ILLEGAL_PREFIX_USED + "\n" + FindTaskDueCommand.MESSAGE_USAGE);
+        }
+
+        List<String> deadlines = argMultimap.getAllValues(PREFIX_TASK_DEADLINE);
+        String preamble = argMultimap.getPreamble().trim();
+        if (deadlines.size() == 2 && preamble.isEmpty()) {
+            LocalDateTime from = ParserUtil.parseDeadline(deadlines.get(0)).getTime();
+            LocalDateTime to = ParserUtil.parseDeadline(deadlines.get(1)).getTime();
+            if (from.isAfter(to)) {
+                throw new ParseException(MESSAGE_INVALID_PERIOD);
+            }
+            return new FindTaskDueCommand(from, to);
+        }
+        if (deadlines.isEmpty() && !preamble.isEmpty()) {
+            return new FindTaskDueCommand(parseDays(preamble));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTaskDueCommand.MESSAGE_USAGE));
+    }
+
+    private static int parseDays(String days) throws ParseException {
+        if (!days.equals("0") && !StringUtil.isNonZeroUnsignedInteger(days)) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        int parsedDays = Integer.parseInt(days);
+        if (parsedDays > MAX_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return parsedDays;
+    }
+
+    private boolean containsInvalidPrefix(String arg, List<Prefix> invalidPrefixes) {
+        return invalidPrefixes.stream().anyMatch(prefix -> arg.contains(prefix.getPrefix()));
+    }
+}
@@ -2,28 +2,55 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.group.UniqueGroupList;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentMatchesQueryPredicate;
 import seedu.address.model.student.StudentNumber;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 import seedu.address.model.task.UniqueTaskList;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed (by .isSamePerson, .isSameGroup, and .isSameTask comparison).
+ * Every change made through this class is recorded in a {@code ChangeSet}, which can be taken with
+ * {@link #takeChanges()} and later replayed with {@link #applyChanges(ChangeSet)} or {@link #revertChanges(ChangeSet)}.
+ * The same changes are mirrored into persistent lists, so that {@link #snapshot()} is O(1).
+ * The groups holding each task are indexed as groups change, so that they can be listed without scanning every group,
+ * and pending tasks are queued by deadline, so that the tasks falling overdue are found without checking every task.
+ * Observers of the lists are told of each row that changed, including the rows showing a task whose groups changed
+ * or a group whose members changed, so that list views redraw only those rows.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueStudentList students;
     private final UniqueGroupList groups;
     private final UniqueTaskList tasks;
+    private final TaskGroupIndex groupsWithTask = new TaskGroupIndex();
+    private final OverdueTracker overdueTracker = new OverdueTracker(this::isTracked);
+    private ChangeSet changes = new ChangeSet();
+    private PersistentList<Student> studentVersion = PersistentList.empty();
+    private PersistentList<Group> groupVersion = PersistentList.empty();
+    private PersistentList<Task> taskVersion = PersistentList.empty();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +74,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        changes = new ChangeSet();
     }
 
     //// list overwrite operations
@@ -57,6 +85,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setPersons(students);
+        recordStudentChange(0, studentVersion.size(), students);
     }
 
     /**
@@ -65,6 +94,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        groupsWithTask.clear();
+        groups.forEach(groupsWithTask::add);
+        groups.forEach(overdueTracker::track);
+        recordGroupChange(0, groupVersion.size(), groups);
     }
 
     /**
@@ -73,15 +106,79 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        tasks.forEach(task -> overdueTracker.track(task, null));
+        recordTaskChange(0, taskVersion.size(), tasks);
     }
 
-    public void setStatus() {
-        for (Group g : groups) {
-            g.setTaskStatus();
+    /**
+     * Marks every pending task whose deadline has passed as overdue, in the global task list and in every group.
+     * Status updates are not recorded as changes, but are reflected in later snapshots.
+     *
+     * @return true if any task became overdue.
+     */
+    public boolean setStatus() {
+        return setStatus(LocalDateTime.now(Task.TIME_ZONE));
+    }
+
+    /**
+     * Marks every pending task whose deadline is before {@code currentTime} as overdue.
+     * Only the tasks whose deadlines passed since the last update are checked.
+     *
+     * @return true if any task became overdue.
+     */
+    public boolean setStatus(LocalDateTime currentTime) {
+        boolean hasChanged = false;
+        Set<GroupName> changedGroups = new HashSet<>();
+        for (OverdueTracker.Entry entry : overdueTracker.pollPassed(currentTime)) {
+            Task task = entry.getTask();
+            task.setStatus(currentTime);
+            if (entry.getGroup() != null) {
+                changedGroups.add(entry.getGroup().getGroupName());
+                continue;
+            }
+            int index = tasks.indexOf(task);
+            if (task.getStatus() != taskVersion.get(index).getStatus()) {
+                taskVersion = taskVersion.set(index, new Task(task));
+                tasks.refresh(task);
+                hasChanged = true;
+            }
         }
-        for (Task t : tasks) {
-            t.setStatus();
+        for (GroupName groupName : changedGroups) {
+            Group group = groups.findGroupByName(groupName);
+            int index = groups.indexOf(group);
+            if (!hasSameTaskStatuses(group, groupVersion.get(index))) {
+                groupsWithTask.update(group).forEach(tasks::refresh);
+                groups.refresh(group);
+                groupVersion = groupVersion.set(index, new Group(group));
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+
+    /**
+     * Returns true if {@code task} is in {@code group}, or in the task list if {@code group} is null, and
+     * {@code group} is in the group list.
+     */
+    private boolean isTracked(Task task, Group group) {
+        if (group == null) {
+            return tasks.findSameTask(task) == task;
         }
+        return groups.findGroupByName(group.getGroupName()) == group
+            && group.getTasks().stream().anyMatch(groupTask -> groupTask == task);
+    }
+
+    /**
+     * Returns true if the tasks of {@code group} have the same statuses as those of its recorded copy.
+     */
+    private static boolean hasSameTaskStatuses(Group group, Group recordedGroup) {
+        Iterator<Task> recordedTasks = recordedGroup.getTasks().iterator();
+        for (Task task : group.getTasks()) {
+            if (!recordedTasks.hasNext() || task.getStatus() != recordedTasks.next().getStatus()) {
+                return false;
+            }
+        }
+        return !recordedTasks.hasNext();
     }
 
     /**
@@ -95,30 +192,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTasks(newData.getTaskList());
     }
 
-    /**
-     * Creates a defensive copy of the T_Assistant
-     *
-     * @param newData The data to be copied over.
-     * @return Returns the new addressbook
-     */
-    public AddressBook duplicateCopy(ReadOnlyAddressBook newData) {
-        requireNonNull(newData);
-        AddressBook newAddressBook = new AddressBook();
-        for (Student student : newData.getStudentList()) {
-            Student newStudent = new Student(student);
-            newAddressBook.students.add(newStudent);
-        }
-        for (Group group : newData.getGroupList()) {
-            Group newGroup = new Group(group);
-            newAddressBook.groups.add(newGroup);
-        }
-        for (Task task : newData.getTaskList()) {
-            Task newTask = new Task(task);
-            newAddressBook.tasks.add(newTask);
-        }
-        return newAddressBook;
-    }
-
     //// student-level operations
 
     /**
@@ -135,6 +208,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStudent(Student p) {
         students.add(p);
+        recordStudentChange(studentVersion.size(), 0, List.of(p));
     }
 
     /**
@@ -142,7 +216,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeStudent(Student key) {
+        int index = students.indexOf(key);
         students.remove(key);
+        refreshGroupOf(key);
+        recordStudentChange(index, 1, List.of());
     }
 
     /**
@@ -154,7 +231,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
 
+        int index = students.indexOf(target);
         students.setPerson(target, editedStudent);
+        refreshGroupOf(target);
+        if (!editedStudent.getGroupName().equals(target.getGroupName())) {
+            refreshGroupOf(editedStudent);
+        }
+        recordStudentChange(index, 1, List.of(editedStudent));
+    }
+
+    /**
+     * Redraws the group that {@code student} is in, if any, as its card lists the details of its members.
+     */
+    private void refreshGroupOf(Student student) {
+        student.getGroupName().map(groups::findGroupByName).ifPresent(groups::refresh);
     }
 
     /**
@@ -164,7 +254,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasStudentInGroup(Student student, Group group) {
         requireNonNull(student);
         requireNonNull(group);
-        return group.getStudents().contains(student);
+        return group.hasStudent(student.getStudentNumber());
     }
 
     /**
@@ -174,8 +264,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addStudentToGroup(Student student, Group group) {
         requireNonNull(student);
         requireNonNull(group);
-        group.add(student.setStudentGroup(group.getGroupName()));
-        students.setPerson(student, student.setStudentGroup(group.getGroupName()));
+        editGroup(group, g -> g.add(student.getStudentNumber()));
+        setStudent(student, student.setStudentGroup(group.getGroupName()));
     }
 
     /**
@@ -184,14 +274,51 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void deleteStudentFromGroup(Group group, Student student) {
         requireNonNull(group);
         requireNonNull(student);
-        group.delete(student);
-        students.setPerson(student, student.removeGroup());
+        editGroup(group, g -> g.delete(student.getStudentNumber()));
+        setStudent(student, student.removeGroup());
     }
 
     public Student getStudentByNumber(StudentNumber studentNumber) {
         return students.getStudentByNumber(studentNumber);
     }
 
+    /**
+     * Returns a predicate that accepts the same students as {@code query}, answered from the search index of the
+     * student list.
+     */
+    public Predicate<Student> searchStudents(StudentMatchesQueryPredicate query) {
+        requireNonNull(query);
+        return students.search(query);
+    }
+
+    /**
+     * Returns a predicate that accepts the same tasks as {@code query}, answered from the name index of the task
+     * list.
+     */
+    public Predicate<Task> searchTasks(TaskNameContainsKeywordsPredicate query) {
+        requireNonNull(query);
+        return tasks.search(query);
+    }
+
+    /**
+     * Returns the tasks due from {@code from} to {@code to}, both inclusive, in order of deadline.
+     */
+    public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return tasks.getTasksDueBetween(from, to);
+    }
+
+    /**
+     * Returns the members of {@code group}, looked up by their student numbers in the list of students.
+     */
+    public List<Student> getStudentsInGroup(Group group) {
+        requireNonNull(group);
+        return group.getStudentNumbers().stream()
+            .map(students::getStudentByNumber)
+            .toList();
+    }
+
     //// group-level operations
 
     /**
@@ -216,10 +343,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addGroup(Group p) {
         groups.add(p);
+        groupsWithTask.add(p);
+        p.getTasks().forEach(tasks::refresh);
+        overdueTracker.track(p);
+        recordGroupChange(groupVersion.size(), 0, List.of(p));
     }
 
+    /**
+     * Removes {@code groupToBeDeleted} from this {@code AddressBook}.
+     * {@code groupToBeDeleted} must exist in the address book.
+     */
     public void removeGroup(Group groupToBeDeleted) {
+        int index = groups.indexOf(groupToBeDeleted);
         groups.remove(groupToBeDeleted);
+        groupsWithTask.remove(groupToBeDeleted.getGroupName());
+        groupToBeDeleted.getTasks().forEach(tasks::refresh);
+        recordGroupChange(index, 1, List.of());
     }
 
     /**
@@ -231,13 +370,44 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setGroup(Group target, Group editedGroup) {
         requireNonNull(editedGroup);
 
+        int index = groups.indexOf(target);
         groups.setGroup(target, editedGroup);
+        groupsWithTask.remove(target.getGroupName());
+        groupsWithTask.add(editedGroup);
+        target.getTasks().forEach(tasks::refresh);
+        editedGroup.getTasks().forEach(tasks::refresh);
+        overdueTracker.track(editedGroup);
+        recordGroupChange(index, 1, List.of(editedGroup));
     }
 
     public Group findGroupByName(GroupName groupName) {
         return groups.findGroupByName(groupName);
     }
 
+    /**
+     * Returns the groups holding {@code task} with the given {@code status}, in the order of the group list.
+     */
+    public List<Group> getGroupsWithTask(Task task, Status status) {
+        requireNonNull(task);
+        requireNonNull(status);
+        return findGroupsByName(groupsWithTask.getGroupNames(task, status));
+    }
+
+    /**
+     * Returns the groups holding {@code task}, whatever its status in them, in the order of the group list.
+     */
+    public List<Group> getGroupsWithTask(Task task) {
+        requireNonNull(task);
+        return findGroupsByName(groupsWithTask.getGroupNames(task));
+    }
+
+    private List<Group> findGroupsByName(Set<GroupName> groupNames) {
+        return groupNames.stream()
+            .map(groups::findGroupByName)
+            .sorted(Comparator.comparingInt(groups::indexOf))
+            .toList();
+    }
+
     //// task-level operations
 
     /**
@@ -255,45 +425,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code group} must exist in the address book.
      */
     public void addTaskToGroup(Task task, Group group) {
-        group.addTask(task);
+        editGroup(group, g -> g.addTask(task));
     }
 
     /**
      * Adds {@code task} to {@code AddressBook}.
      */
     public void addTask(Task task) {
+        int oldSize = taskVersion.size();
         tasks.add(task);
+        if (tasks.asUnmodifiableObservableList().size() > oldSize) {
+            overdueTracker.track(task, null);
+            recordTaskChange(oldSize, 0, List.of(task));
+        }
     }
 
     /**
      * Increases the number of groups with {@code task} by 1.
      */
     public void incrementTask(Task task) {
-        tasks.forEach(x -> {
-            if (x.isSameTask(task)) {
-                x.increaseGroupWithTask();
-            }
-        });
+        Task sameTask = tasks.findSameTask(task);
+        if (sameTask != null) {
+            editTask(sameTask, Task::increaseGroupWithTask);
+        }
     }
 
     /**
-     * Decreases the number of groups with {@code task} by 1.
+     * Decreases the number of groups with {@code task} by 1, and deletes it once no group has it.
      */
     public void decrementTask(Task task) {
-        tasks.forEach(x -> {
-            if (x.isSameTask(task)) {
-                x.decreaseGroupWithTask();
-            }
-        });
-
-        Task toDelete = null;
-        for (Task t : tasks) {
-            if (t.getGroupsWithTask() == 0) {
-                toDelete = t;
-            }
+        Task sameTask = tasks.findSameTask(task);
+        if (sameTask == null) {
+            return;
         }
-        if (toDelete != null) {
-            tasks.remove(toDelete);
+        editTask(sameTask, Task::decreaseGroupWithTask);
+        if (sameTask.getGroupsWithTask() == 0) {
+            deleteTask(sameTask);
         }
     }
 
@@ -309,14 +476,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Deletes the {@code task} from the address book.
      */
     public void deleteTask(Task task) {
+        int index = tasks.indexOf(task);
         tasks.remove(task);
+        recordTaskChange(index, 1, List.of());
     }
 
     /**
      * Deletes {@code task} from {@code group}.
      */
     public void deleteTaskFromGroup(Task task, Group group) {
-        group.deleteTask(task);
+        editGroup(group, g -> g.deleteTask(task));
     }
 
     /**
@@ -326,7 +495,241 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(originalTask);
         requireNonNull(editedTask);
         requireNonNull(group);
-        group.setTask(originalTask, editedTask);
+        editGroup(group, g -> g.setTask(originalTask, editedTask));
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the changes made to this address book since the last call, and starts recording afresh.
+     */
+    public ChangeSet takeChanges() {
+        ChangeSet takenChanges = changes;
+        changes = new ChangeSet();
+        return takenChanges;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this address book in O(1).
+     * Later changes to this address book do not affect the snapshot.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(studentVersion, groupVersion, taskVersion);
+    }
+
+    /**
+     * Replays {@code changeSet} on this address book, bringing it to the state right after the changes were made.
+     * Only the rows that differ from that state are replaced. The replayed changes are not recorded.
+     */
+    public void applyChanges(ChangeSet changeSet) {
+        requireNonNull(changeSet);
+        replay(studentVersion, changeSet.getStudentChanges(), Student::getStudentNumber, this::replaceStudents);
+        replay(groupVersion, changeSet.getGroupChanges(), Group::getGroupName, this::replaceGroups);
+        replay(taskVersion, changeSet.getTaskChanges(), Task::getIdentityKey, this::replaceTasks);
+    }
+
+    /**
+     * Undoes {@code changeSet} on this address book, bringing it to the state right before the changes were made.
+     * Only the rows that differ from that state are replaced. The reverted changes are not recorded.
+     */
+    public void revertChanges(ChangeSet changeSet) {
+        requireNonNull(changeSet);
+        replay(studentVersion, inverse(changeSet.getStudentChanges()), Student::getStudentNumber,
+            this::replaceStudents);
+        replay(groupVersion, inverse(changeSet.getGroupChanges()), Group::getGroupName, this::replaceGroups);
+        replay(taskVersion, inverse(changeSet.getTaskChanges()), Task::getIdentityKey, this::replaceTasks);
+    }
+
+    /**
+     * Replaces a range of elements of one of the lists, without recording the change.
+     */
+    private interface RangeReplacer<T> {
+        void replace(int index, int count, List<T> replacement);
+    }
+
+    /**
+     * Brings the list recorded in {@code version} to the state after {@code changes}, replacing as few rows as
+     * possible with {@code replacer}.
+     * <p>
+     * The changes are first folded into the target state, which also bounds the window of rows they touched. Within
+     * that window, rows holding the very same recorded element in both states are left alone. If the remaining rows
+     * have the same keys in the same order, as when rows were edited, only the rows that differ are replaced one by
+     * one. Otherwise, as when rows were added, removed or reordered, the remaining rows are replaced as a block.
+     */
+    private static <T> void replay(PersistentList<T> version, List<ListChange<T>> changes, Function<T, ?> key,
+                                   RangeReplacer<T> replacer) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        PersistentList<T> target = version;
+        int start = version.size();
+        int unchangedAtEnd = version.size();
+        for (ListChange<T> change : changes) {
+            start = Math.min(start, change.getIndex());
+            unchangedAtEnd = Math.min(unchangedAtEnd,
+                target.size() - change.getIndex() - change.getRemoved().size());
+            target = target.replaceRange(change.getIndex(), change.getRemoved().size(), change.getInserted());
+        }
+        List<T> current = version.asList().subList(start, version.size() - unchangedAtEnd);
+        List<T> wanted = target.asList().subList(start, target.size() - unchangedAtEnd);
+
+        int minSize = Math.min(current.size(), wanted.size());
+        int prefix = 0;
+        while (prefix < minSize && current.get(prefix) == wanted.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && current.get(current.size() - 1 - suffix) == wanted.get(wanted.size() - 1 - suffix)) {
+            suffix++;
+        }
+        current = current.subList(prefix, current.size() - suffix);
+        wanted = wanted.subList(prefix, wanted.size() - suffix);
+        int from = start + prefix;
+
+        if (hasSameKeys(current, wanted, key)) {
+            for (int i = 0; i < current.size(); i++) {
+                if (current.get(i) != wanted.get(i)) {
+                    replacer.replace(from + i, 1, List.of(wanted.get(i)));
+                }
+            }
+        } else {
+            replacer.replace(from, current.size(), List.copyOf(wanted));
+        }
+    }
+
+    private static <T> boolean hasSameKeys(List<T> current, List<T> wanted, Function<T, ?> key) {
+        if (current.size() != wanted.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!key.apply(current.get(i)).equals(key.apply(wanted.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the changes that undo {@code changes}, in the order in which they are to be made.
+     */
+    private static <T> List<ListChange<T>> inverse(List<ListChange<T>> changes) {
+        return reversed(changes).stream().map(ListChange::inverse).toList();
+    }
+
+    /**
+     * Replaces {@code count} students at {@code index} with {@code replacement}, without recording the change.
+     */
+    private void replaceStudents(int index, int count, List<Student> replacement) {
+        List<Student> replaced = List.copyOf(students.asUnmodifiableObservableList().subList(index, index + count));
+        students.replaceRange(index, count, replacement);
+        replaced.forEach(this::refreshGroupOf);
+        replacement.forEach(this::refreshGroupOf);
+        studentVersion = studentVersion.replaceRange(index, count, replacement);
+    }
+
+    /**
+     * Replaces {@code count} groups at {@code index} with copies of {@code replacement}, without recording the
+     * change. {@code replacement} must not be modified afterwards, as it becomes part of the current snapshot.
+     */
+    private void replaceGroups(int index, int count, List<Group> replacement) {
+        List<Group> replaced = List.copyOf(groups.asUnmodifiableObservableList().subList(index, index + count));
+        replaced.forEach(group -> groupsWithTask.remove(group.getGroupName()));
+        List<Group> copies = copyGroups(replacement);
+        groups.replaceRange(index, count, copies);
+        copies.forEach(groupsWithTask::add);
+        replaced.forEach(group -> group.getTasks().forEach(tasks::refresh));
+        copies.forEach(group -> group.getTasks().forEach(tasks::refresh));
+        copies.forEach(overdueTracker::track);
+        groupVersion = groupVersion.replaceRange(index, count, replacement);
+    }
+
+    /**
+     * Replaces {@code count} tasks at {@code index} with copies of {@code replacement}, without recording the
+     * change. {@code replacement} must not be modified afterwards, as it becomes part of the current snapshot.
+     */
+    private void replaceTasks(int index, int count, List<Task> replacement) {
+        List<Task> copies = copyTasks(replacement);
+        tasks.replaceRange(index, count, copies);
+        copies.forEach(task -> overdueTracker.track(task, null));
+        taskVersion = taskVersion.replaceRange(index, count, replacement);
+    }
+
+    /**
+     * Applies {@code edit} to {@code group} in place, recording the group before and after the edit.
+     */
+    private void editGroup(Group group, Consumer<Group> edit) {
+        int index = groups.indexOf(group);
+        edit.accept(group);
+        groupsWithTask.update(group).forEach(tasks::refresh);
+        groups.refresh(group);
+        overdueTracker.track(group);
+        recordGroupChange(index, 1, List.of(group));
+    }
+
+    /**
+     * Applies {@code edit} to {@code task} in place, recording the task before and after the edit.
+     */
+    private void editTask(Task task, Consumer<Task> edit) {
+        int index = tasks.indexOf(task);
+        edit.accept(task);
+        tasks.refresh(task);
+        recordTaskChange(index, 1, List.of(task));
+    }
+
+    /**
+     * Records that the {@code count} students at {@code index} were replaced by {@code inserted}.
+     * The replaced students are taken from the current snapshot, which still holds them.
+     */
+    private void recordStudentChange(int index, int count, List<Student> inserted) {
+        if (index == -1) {
+            return;
+        }
+        List<Student> removed = studentVersion.asList().subList(index, index + count);
+        changes.addStudentChange(new ListChange<>(index, removed, inserted));
+        studentVersion = studentVersion.replaceRange(index, count, inserted);
+    }
+
+    /**
+     * Records that the {@code count} groups at {@code index} were replaced by {@code inserted}.
+     * The recorded groups are copies, so that later in-place edits of {@code inserted} do not affect them.
+     */
+    private void recordGroupChange(int index, int count, List<Group> inserted) {
+        if (index == -1) {
+            return;
+        }
+        List<Group> removed = groupVersion.asList().subList(index, index + count);
+        List<Group> insertedCopies = copyGroups(inserted);
+        changes.addGroupChange(new ListChange<>(index, removed, insertedCopies));
+        groupVersion = groupVersion.replaceRange(index, count, insertedCopies);
+    }
+
+    /**
+     * Records that the {@code count} tasks at {@code index} were replaced by {@code inserted}.
+     * The recorded tasks are copies, so that later in-place edits of {@code inserted} do not affect them.
+     */
+    private void recordTaskChange(int index, int count, List<Task> inserted) {
+        if (index == -1) {
+            return;
+        }
+        List<Task> removed = taskVersion.asList().subList(index, index + count);
+        List<Task> insertedCopies = copyTasks(inserted);
+        changes.addTaskChange(new ListChange<>(index, removed, insertedCopies));
+        taskVersion = taskVersion.replaceRange(index, count, insertedCopies);
+    }
+
+    private static List<Group> copyGroups(List<Group> groups) {
+        return groups.stream().map(Group::new).toList();
+    }
+
+    private static List<Task> copyTasks(List<Task> tasks) {
+        return tasks.stream().map(Task::new).toList();
+    }
+
+    private static <T> List<T> reversed(List<T> list) {
+        List<T> reversedList = new ArrayList<>(list);
+        Collections.reverse(reversedList);
+        return reversedList;
     }
 
     //// util methods
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
+import seedu.address.model.task.Task;
+
+/**
+ * An immutable version of an address book.
+ * The lists are persistent, so taking a snapshot costs a pointer copy and consecutive snapshots share every
+ * entity that did not change between them. The elements are never modified after the snapshot is taken,
+ * which makes a snapshot safe to read from any thread.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Student> students;
+    private final PersistentList<Group> groups;
+    private final PersistentList<Task> tasks;
+
+    /**
+     * Creates a snapshot of the given {@code students}, {@code groups} and {@code tasks}.
+     */
+    public AddressBookSnapshot(PersistentList<Student> students, PersistentList<Group> groups,
+                               PersistentList<Task> tasks) {
+        requireAllNonNull(students, groups, tasks);
+        this.students = students;
+        this.groups = groups;
+        this.tasks = tasks;
+    }
+
+    public PersistentList<Student> getStudents() {
+        return students;
+    }
+
+    public PersistentList<Group> getGroups() {
+        return groups;
+    }
+
+    public PersistentList<Task> getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(students.asList()));
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(groups.asList()));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks.asList()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot otherSnapshot)) {
+            return false;
+        }
+
+        return students.equals(otherSnapshot.students)
+            && groups.equals(otherSnapshot.groups)
+            && tasks.equals(otherSnapshot.tasks);
+    }
+
+    @Override
+    public int hashCode() {
+        return students.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("students", students)
+            .toString();
+    }
+}
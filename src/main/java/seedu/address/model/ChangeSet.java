@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
+import seedu.address.model.task.Task;
+
+/**
+ * Represents the changes made to an address book by a single command.
+ * Changes to each list are kept in the order in which they were made, so that they can be replayed
+ * forwards to redo the command, or backwards to undo it.
+ */
+public class ChangeSet {
+
+    private final List<ListChange<Student>> studentChanges = new ArrayList<>();
+    private final List<ListChange<Group>> groupChanges = new ArrayList<>();
+    private final List<ListChange<Task>> taskChanges = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code ChangeSet}.
+     */
+    public ChangeSet() {
+    }
+
+    /**
+     * Creates a {@code ChangeSet} with the given changes to each list.
+     */
+    public ChangeSet(List<ListChange<Student>> studentChanges, List<ListChange<Group>> groupChanges,
+                     List<ListChange<Task>> taskChanges) {
+        this.studentChanges.addAll(studentChanges);
+        this.groupChanges.addAll(groupChanges);
+        this.taskChanges.addAll(taskChanges);
+    }
+
+    /**
+     * Records a change to the student list.
+     */
+    public void addStudentChange(ListChange<Student> change) {
+        requireNonNull(change);
+        studentChanges.add(change);
+    }
+
+    /**
+     * Records a change to the group list.
+     */
+    public void addGroupChange(ListChange<Group> change) {
+        requireNonNull(change);
+        groupChanges.add(change);
+    }
+
+    /**
+     * Records a change to the task list.
+     */
+    public void addTaskChange(ListChange<Task> change) {
+        requireNonNull(change);
+        taskChanges.add(change);
+    }
+
+    public List<ListChange<Student>> getStudentChanges() {
+        return Collections.unmodifiableList(studentChanges);
+    }
+
+    public List<ListChange<Group>> getGroupChanges() {
+        return Collections.unmodifiableList(groupChanges);
+    }
+
+    public List<ListChange<Task>> getTaskChanges() {
+        return Collections.unmodifiableList(taskChanges);
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return studentChanges.isEmpty() && groupChanges.isEmpty() && taskChanges.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeSet otherChangeSet)) {
+            return false;
+        }
+
+        return studentChanges.equals(otherChangeSet.studentChanges)
+            && groupChanges.equals(otherChangeSet.groupChanges)
+            && taskChanges.equals(otherChangeSet.taskChanges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentChanges, groupChanges, taskChanges);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("students", studentChanges)
+            .add("groups", groupChanges)
+            .add("tasks", taskChanges)
+            .toString();
+    }
+}
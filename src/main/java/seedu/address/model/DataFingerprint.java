@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Computes a fingerprint of the contents of an address book, so that a saved version history can be checked to
+ * belong to the saved data it is loaded with.
+ * <p>
+ * The version history only holds the changes made by each command, which are replayed by position, so replaying
+ * them on any other data would change the wrong rows. The fingerprint covers everything that the data file holds,
+ * including the order of every list, and is the same across runs of the application. Members, tags and the tasks
+ * of a group are hashed in sorted order, as their order is not significant.
+ */
+public final class DataFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final char RECORD_SEPARATOR = '\u001e';
+    private static final char LIST_SEPARATOR = '\u001d';
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    private DataFingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of {@code addressBook}. Takes time linear in the size of the address book.
+     */
+    public static long of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        DataFingerprint fingerprint = new DataFingerprint();
+        for (Student student : addressBook.getStudentList()) {
+            fingerprint.add(student.getStudentNumber().toString())
+                    .add(student.getName().toString())
+                    .add(student.getEmail().toString())
+                    .add(student.getGroupName().map(Object::toString).orElse(""));
+            student.getTags().stream().map(Tag::toString).sorted().forEach(fingerprint::add);
+            fingerprint.endRecord();
+        }
+        fingerprint.endList();
+        for (Group group : addressBook.getGroupList()) {
+            fingerprint.add(group.getGroupName().toString());
+            group.getStudentNumbers().stream().map(Object::toString).sorted().forEach(fingerprint::add);
+            group.getTasks().stream()
+                    .sorted(Comparator.comparing(DataFingerprint::describe))
+                    .forEach(task -> fingerprint.add(describe(task)).add(task.getStatus().name()));
+            fingerprint.endRecord();
+        }
+        fingerprint.endList();
+        for (Task task : addressBook.getTaskList()) {
+            fingerprint.add(describe(task)).endRecord();
+        }
+        return fingerprint.hash;
+    }
+
+    private static String describe(Task task) {
+        return task.getTaskName() + " " + task.getDeadline();
+    }
+
+    private DataFingerprint add(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            mix(field.charAt(i));
+        }
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    private void endRecord() {
+        mix(RECORD_SEPARATOR);
+    }
+
+    private void endList() {
+        mix(LIST_SEPARATOR);
+    }
+
+    private void mix(char c) {
+        hash = (hash ^ c) * FNV_PRIME;
+    }
+}
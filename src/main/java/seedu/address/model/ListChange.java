@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a single mutation of one of the address book lists.
+ * The elements in {@code removed}, starting at {@code index}, are replaced by the elements in {@code inserted}.
+ * Additions, removals, edits and whole-list replacements can all be described this way.
+ * Guarantees: immutable.
+ */
+public class ListChange<T> {
+
+    private final int index;
+    private final List<T> removed;
+    private final List<T> inserted;
+
+    /**
+     * Creates a {@code ListChange} that replaces {@code removed} at {@code index} with {@code inserted}.
+     */
+    public ListChange(int index, List<T> removed, List<T> inserted) {
+        requireNonNull(removed);
+        requireNonNull(inserted);
+        this.index = index;
+        this.removed = List.copyOf(removed);
+        this.inserted = List.copyOf(inserted);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public ListChange<T> inverse() {
+        return new ListChange<>(index, inserted, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListChange<?> otherChange)) {
+            return false;
+        }
+
+        return index == otherChange.index
+            && removed.equals(otherChange.removed)
+            && inserted.equals(otherChange.inserted);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, inserted);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("index", index)
+            .add("removed", removed)
+            .add("inserted", inserted)
+            .toString();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,8 +12,11 @@ import seedu.address.commons.core.State;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentMatchesQueryPredicate;
 import seedu.address.model.student.StudentNumber;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 
 
 /**
@@ -83,6 +88,46 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book, which later changes to the model do not affect.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the changes made to the address book since the last call, and starts recording afresh.
+     */
+    ChangeSet takeChanges();
+
+    /**
+     * Replays {@code changes} on the address book.
+     */
+    void applyChanges(ChangeSet changes);
+
+    /**
+     * Undoes {@code changes} on the address book.
+     */
+    void revertChanges(ChangeSet changes);
+
+    /**
+     * Starts a transaction. The changes made to the model until {@link #commitTransaction()} are kept together, and
+     * can be undone together with {@link #rollbackTransaction()}.
+     * Until then, the filters set on the lists are deferred, so that only the last filter set on each list is
+     * applied, unless a filtered list is read in the meantime.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, applying the filters deferred in it.
+     * The changes made in it are taken together by the next {@link #takeChanges()}.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, undoing the changes made to the address book in it and restoring the filters
+     * and display state of the lists from before it began.
+     */
+    void rollbackTransaction();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in the address book.
      */
@@ -163,12 +208,45 @@ public interface Model {
      */
     Student getPersonByNumber(StudentNumber studentNumber);
 
+    /**
+     * Returns the members of {@code group}.
+     * {@code group} must exist in the address book.
+     */
+    List<Student> getPersonsInGroup(Group group);
+
+    /**
+     * Returns a predicate that accepts the same students as {@code query}, but only tests the students that the
+     * search index finds may match it.
+     */
+    Predicate<Student> searchPersons(StudentMatchesQueryPredicate query);
+
+    /**
+     * Returns a predicate that accepts the same tasks as {@code query}, but matches the keywords against each
+     * distinct task name only once.
+     */
+    Predicate<Task> searchTasks(TaskNameContainsKeywordsPredicate query);
+
+    /**
+     * Returns the tasks due from {@code from} to {@code to}, both inclusive, in order of deadline.
+     */
+    List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Returns a {@code Group} with the group name {@code groupName}.
      * There must exist such a {@code Group} in the address book.
      */
     Group getGroupByName(GroupName groupName);
 
+    /**
+     * Returns the groups holding {@code task} with the given {@code status}, in the order of the group list.
+     */
+    List<Group> getGroupsWithTask(Task task, Status status);
+
+    /**
+     * Returns the groups holding {@code task}, whatever its status in them, in the order of the group list.
+     */
+    List<Group> getGroupsWithTask(Task task);
+
     /**
      * Returns an unmodifiable view of the filtered student list.
      */
@@ -284,6 +362,8 @@ public interface Model {
 
     /**
      * Updates the status of each task in each group based on the current time.
+     *
+     * @return true if any task became overdue.
      */
-    void setStatus();
+    boolean setStatus();
 }
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,8 +18,11 @@ import seedu.address.commons.core.State;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentMatchesQueryPredicate;
 import seedu.address.model.student.StudentNumber;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 
 
 /**
@@ -33,6 +38,15 @@ public class ModelManager implements Model {
     private final FilteredList<Group> filteredGroups;
     private final FilteredList<Task> filteredTasks;
 
+    private boolean isInTransaction;
+    private UserPrefs userPrefsBeforeTransaction;
+    private Predicate<? super Student> studentPredicateBeforeTransaction;
+    private Predicate<? super Group> groupPredicateBeforeTransaction;
+    private Predicate<? super Task> taskPredicateBeforeTransaction;
+    private Predicate<Student> pendingStudentPredicate;
+    private Predicate<Group> pendingGroupPredicate;
+    private Predicate<Task> pendingTaskPredicate;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -194,6 +208,77 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public ChangeSet takeChanges() {
+        return addressBook.takeChanges();
+    }
+
+    @Override
+    public void applyChanges(ChangeSet changes) {
+        requireNonNull(changes);
+        addressBook.applyChanges(changes);
+    }
+
+    @Override
+    public void revertChanges(ChangeSet changes) {
+        requireNonNull(changes);
+        addressBook.revertChanges(changes);
+    }
+
+    @Override
+    public void beginTransaction() {
+        assert !isInTransaction : "Transactions cannot be nested";
+        isInTransaction = true;
+        userPrefsBeforeTransaction = new UserPrefs(userPrefs);
+        studentPredicateBeforeTransaction = filteredStudents.getPredicate();
+        groupPredicateBeforeTransaction = filteredGroups.getPredicate();
+        taskPredicateBeforeTransaction = filteredTasks.getPredicate();
+    }
+
+    @Override
+    public void commitTransaction() {
+        assert isInTransaction : "No transaction to commit";
+        isInTransaction = false;
+        applyPendingPredicates();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        assert isInTransaction : "No transaction to roll back";
+        isInTransaction = false;
+        addressBook.revertChanges(addressBook.takeChanges());
+        userPrefs.resetData(userPrefsBeforeTransaction);
+        pendingStudentPredicate = null;
+        pendingGroupPredicate = null;
+        pendingTaskPredicate = null;
+        filteredStudents.setPredicate(studentPredicateBeforeTransaction);
+        filteredGroups.setPredicate(groupPredicateBeforeTransaction);
+        filteredTasks.setPredicate(taskPredicateBeforeTransaction);
+    }
+
+    /**
+     * Applies the filters deferred in the current transaction, so that the filtered lists can be read.
+     */
+    private void applyPendingPredicates() {
+        if (pendingStudentPredicate != null) {
+            filteredStudents.setPredicate(pendingStudentPredicate);
+            pendingStudentPredicate = null;
+        }
+        if (pendingGroupPredicate != null) {
+            filteredGroups.setPredicate(pendingGroupPredicate);
+            pendingGroupPredicate = null;
+        }
+        if (pendingTaskPredicate != null) {
+            filteredTasks.setPredicate(pendingTaskPredicate);
+            pendingTaskPredicate = null;
+        }
+    }
+
     @Override
     public boolean hasPerson(Student student) {
         requireNonNull(student);
@@ -269,6 +354,40 @@ public class ModelManager implements Model {
         return addressBook.findGroupByName(groupName);
     }
 
+    @Override
+    public List<Student> getPersonsInGroup(Group group) {
+        requireNonNull(group);
+        return addressBook.getStudentsInGroup(group);
+    }
+
+    @Override
+    public Predicate<Student> searchPersons(StudentMatchesQueryPredicate query) {
+        requireNonNull(query);
+        return addressBook.searchStudents(query);
+    }
+
+    @Override
+    public Predicate<Task> searchTasks(TaskNameContainsKeywordsPredicate query) {
+        requireNonNull(query);
+        return addressBook.searchTasks(query);
+    }
+
+    @Override
+    public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getTasksDueBetween(from, to);
+    }
+
+    @Override
+    public List<Group> getGroupsWithTask(Task task, Status status) {
+        return addressBook.getGroupsWithTask(task, status);
+    }
+
+    @Override
+    public List<Group> getGroupsWithTask(Task task) {
+        return addressBook.getGroupsWithTask(task);
+    }
+
     @Override
     public boolean containsGroupName(GroupName groupName) {
         requireNonNull(groupName);
@@ -294,18 +413,21 @@ public class ModelManager implements Model {
     @Override
     public void sortPersonList(Comparator<Student> comparator) {
         requireAllNonNull(comparator);
+        applyPendingPredicates();
         addressBook.setStudents(filteredStudents.sorted(comparator));
     }
 
     @Override
     public void sortGroupList(Comparator<Group> comparator) {
         requireAllNonNull(comparator);
+        applyPendingPredicates();
         addressBook.setGroups(filteredGroups.sorted(comparator));
     }
 
     @Override
     public void sortTaskList(Comparator<Task> comparator) {
         requireAllNonNull(comparator);
+        applyPendingPredicates();
         addressBook.setTasks(filteredTasks.sorted(comparator));
     }
 
@@ -317,34 +439,49 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredPersonList() {
+        applyPendingPredicates();
         return filteredStudents;
     }
 
     @Override
     public ObservableList<Group> getFilteredGroupList() {
+        applyPendingPredicates();
         return filteredGroups;
     }
 
     @Override
     public ObservableList<Task> getFilteredTaskList() {
+        applyPendingPredicates();
         return filteredTasks;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        if (isInTransaction) {
+            pendingStudentPredicate = predicate;
+            return;
+        }
         filteredStudents.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         requireNonNull(predicate);
+        if (isInTransaction) {
+            pendingGroupPredicate = predicate;
+            return;
+        }
         filteredGroups.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        if (isInTransaction) {
+            pendingTaskPredicate = predicate;
+            return;
+        }
         filteredTasks.setPredicate(predicate);
     }
 
@@ -418,7 +555,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void setStatus() {
-        addressBook.setStatus();
+    public boolean setStatus() {
+        return addressBook.setStatus();
     }
 }
@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+/**
+ * Queues the pending tasks of an address book by deadline, so that the tasks falling overdue can be found without
+ * checking every task.
+ * <p>
+ * Every pending task is queued together with the group holding it, or with no group if it is in the task list.
+ * Tasks and groups are edited in place and replaced freely, so entries are never removed when their task leaves
+ * the address book. Instead, {@code isTracked} tells whether an entry still refers to a task in the address book,
+ * and entries that do not are dropped whenever the queue has doubled in size since it was last compacted.
+ */
+class OverdueTracker {
+
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparing(Entry::getDeadline));
+    private final Set<Entry> queued = new HashSet<>();
+    private final BiPredicate<Task, Group> isTracked;
+    private int compactionSize = MIN_COMPACTION_SIZE;
+
+    /**
+     * Creates a tracker whose entries are kept while {@code isTracked} holds for their task and group.
+     */
+    OverdueTracker(BiPredicate<Task, Group> isTracked) {
+        this.isTracked = isTracked;
+    }
+
+    /**
+     * A pending task, and the group holding it or null if the task is in the task list.
+     * Entries are equal when they refer to the very same task and group.
+     */
+    static class Entry {
+        private final Task task;
+        private final Group group;
+
+        private Entry(Task task, Group group) {
+            this.task = task;
+            this.group = group;
+        }
+
+        Task getTask() {
+            return task;
+        }
+
+        Group getGroup() {
+            return group;
+        }
+
+        private LocalDateTime getDeadline() {
+            return task.getDeadline().getTime();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry otherEntry && task == otherEntry.task && group == otherEntry.group;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(task) + System.identityHashCode(group);
+        }
+    }
+
+    /**
+     * Queues {@code task} of {@code group}, or of the task list if {@code group} is null, if it is pending.
+     */
+    void track(Task task, Group group) {
+        if (task.getStatus() != Status.PENDING) {
+            return;
+        }
+        Entry entry = new Entry(task, group);
+        if (queued.add(entry)) {
+            queue.add(entry);
+        }
+        if (queue.size() >= compactionSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Queues the pending tasks of {@code group}.
+     */
+    void track(Group group) {
+        for (Task task : group.getTasks()) {
+            track(task, group);
+        }
+    }
+
+    /**
+     * Removes and returns the entries whose deadlines are before {@code currentTime} and that are still tracked.
+     */
+    List<Entry> pollPassed(LocalDateTime currentTime) {
+        List<Entry> passed = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().getDeadline().isBefore(currentTime)) {
+            Entry entry = queue.poll();
+            queued.remove(entry);
+            if (isTracked.test(entry.task, entry.group)) {
+                passed.add(entry);
+            }
+        }
+        return passed;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    private void compact() {
+        queue.removeIf(entry -> entry.task.getStatus() != Status.PENDING || !isTracked.test(entry.task, entry.group));
+        queued.clear();
+        queued.addAll(queue);
+        compactionSize = Math.max(MIN_COMPACTION_SIZE, 2 * queue.size());
+    }
+}
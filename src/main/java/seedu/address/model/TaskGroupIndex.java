@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+/**
+ * Indexes the groups holding each task, by the status of the task in each group.
+ * <p>
+ * Groups are edited in place, so the index keeps the tasks and statuses it last saw for every group. A group is
+ * reindexed by removing what was last seen of it and indexing it afresh, which takes time proportional to the
+ * number of tasks in that group only.
+ * <p>
+ * Tasks are indexed by {@link Task#getIdentityKey()}, so that tasks that differ only in the case of their names,
+ * which the task list treats as the same task, are indexed together.
+ */
+class TaskGroupIndex {
+
+    private final Map<List<Object>, Map<Status, Set<GroupName>>> groupsByTask = new HashMap<>();
+    private final Map<GroupName, Map<List<Object>, IndexedTask>> indexedTasks = new HashMap<>();
+
+    /**
+     * Indexes the tasks of {@code group}, which must not be indexed yet.
+     */
+    void add(Group group) {
+        Map<List<Object>, IndexedTask> tasks = new HashMap<>();
+        for (Task task : group.getTasks()) {
+            List<Object> key = task.getIdentityKey();
+            tasks.put(key, new IndexedTask(task, task.getStatus()));
+            groupsByTask.computeIfAbsent(key, unused -> new EnumMap<>(Status.class))
+                    .computeIfAbsent(task.getStatus(), unused -> new LinkedHashSet<>())
+                    .add(group.getGroupName());
+        }
+        indexedTasks.put(group.getGroupName(), tasks);
+    }
+
+    /**
+     * Removes the tasks last indexed for the group named {@code groupName}.
+     */
+    void remove(GroupName groupName) {
+        Map<List<Object>, IndexedTask> tasks = indexedTasks.remove(groupName);
+        if (tasks == null) {
+            return;
+        }
+        for (Map.Entry<List<Object>, IndexedTask> entry : tasks.entrySet()) {
+            Status status = entry.getValue().status();
+            Map<Status, Set<GroupName>> byStatus = groupsByTask.get(entry.getKey());
+            Set<GroupName> groupNames = byStatus.get(status);
+            groupNames.remove(groupName);
+            if (groupNames.isEmpty()) {
+                byStatus.remove(status);
+            }
+            if (byStatus.isEmpty()) {
+                groupsByTask.remove(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Reindexes {@code group} after it was edited in place.
+     *
+     * @return the tasks that were added to or removed from {@code group}, or whose status in it changed.
+     */
+    Set<Task> update(Group group) {
+        Map<List<Object>, IndexedTask> oldTasks = indexedTasks.getOrDefault(group.getGroupName(), Map.of());
+        remove(group.getGroupName());
+        add(group);
+        Map<List<Object>, IndexedTask> newTasks = indexedTasks.get(group.getGroupName());
+        Set<Task> changedTasks = new HashSet<>();
+        oldTasks.forEach((key, oldTask) -> {
+            IndexedTask newTask = newTasks.get(key);
+            if (newTask == null || newTask.status() != oldTask.status()) {
+                changedTasks.add(oldTask.task());
+            }
+        });
+        newTasks.forEach((key, newTask) -> {
+            IndexedTask oldTask = oldTasks.get(key);
+            if (oldTask == null || oldTask.status() != newTask.status()) {
+                changedTasks.add(newTask.task());
+            }
+        });
+        return changedTasks;
+    }
+
+    void clear() {
+        groupsByTask.clear();
+        indexedTasks.clear();
+    }
+
+    /**
+     * Returns the names of the groups holding {@code task} with the given {@code status}.
+     */
+    Set<GroupName> getGroupNames(Task task, Status status) {
+        return groupsByTask.getOrDefault(task.getIdentityKey(), Map.of()).getOrDefault(status, Set.of());
+    }
+
+    /**
+     * Returns the names of the groups holding {@code task}, whatever its status in them.
+     */
+    Set<GroupName> getGroupNames(Task task) {
+        Set<GroupName> groupNames = new LinkedHashSet<>();
+        groupsByTask.getOrDefault(task.getIdentityKey(), Map.of()).values().forEach(groupNames::addAll);
+        return groupNames;
+    }
+
+    /**
+     * A task of a group, with the status it had in the group when the group was indexed.
+     */
+    private record IndexedTask(Task task, Status status) {
+    }
+}
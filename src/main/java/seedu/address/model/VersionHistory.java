@@ -8,17 +8,24 @@ import seedu.address.model.exceptions.UndoLimitException;
 
 /**
  * Represents the history of addressbooks saved in memory.
+ * Instead of a full copy of the address book per version, only the {@code ChangeSet} made by each command is kept.
+ * Version {@code i} is the base version with the first {@code i} change sets applied.
+ * As the change sets are replayed by position, the version history also keeps the fingerprint of the data at
+ * the current version, so that a saved version history is only used with the data it was saved with.
  */
 public class VersionHistory {
     private static final int MAXIMUM_INDEX = 99;
-    private List<ReadOnlyAddressBook> versions = new ArrayList<>();
+    private List<ChangeSet> changeSets = new ArrayList<>();
     private int currentVersionIndex = -1;
+    // the fingerprint of the data at the current version is computed from it only when it is first needed
+    private ReadOnlyAddressBook currentData;
+    private Long dataFingerprint;
 
     /**
      * Initializes a new {@code VersionHistory} object with no previously saved history.
      */
     public VersionHistory() {
-        versions = new ArrayList<>();
+        changeSets = new ArrayList<>();
     }
 
     /**
@@ -26,12 +33,27 @@ public class VersionHistory {
      * @param versionHistory   The {@code VersionHistory} object to be read.
      */
     public VersionHistory(VersionHistory versionHistory) {
-        this.versions = versionHistory.versions;
+        this.changeSets = versionHistory.changeSets;
         this.currentVersionIndex = versionHistory.currentVersionIndex;
+        this.currentData = versionHistory.currentData;
+        this.dataFingerprint = versionHistory.dataFingerprint;
     }
 
-    public List<ReadOnlyAddressBook> getVersions() {
-        return this.versions;
+    /**
+     * Returns a copy of this {@code VersionHistory} that is not affected by later versions being added or undone.
+     * The change sets themselves are shared, as they are never modified once added.
+     */
+    public VersionHistory copy() {
+        VersionHistory copy = new VersionHistory();
+        copy.changeSets.addAll(changeSets);
+        copy.currentVersionIndex = currentVersionIndex;
+        copy.currentData = currentData;
+        copy.dataFingerprint = dataFingerprint;
+        return copy;
+    }
+
+    public List<ChangeSet> getChangeSets() {
+        return this.changeSets;
     }
 
     public int getCurrentVersionIndex() {
@@ -42,62 +64,106 @@ public class VersionHistory {
         this.currentVersionIndex = versionIndex;
     }
 
+    /**
+     * Records {@code data}, which must not change later, as the data at the current version.
+     * Its fingerprint is only computed when it is first needed, which is when the version history is saved.
+     */
+    public void setCurrentData(ReadOnlyAddressBook data) {
+        this.currentData = data;
+        this.dataFingerprint = null;
+    }
+
+    /**
+     * Sets the fingerprint of the data at the current version, or null if it is not known.
+     */
+    public void setDataFingerprint(Long dataFingerprint) {
+        this.currentData = null;
+        this.dataFingerprint = dataFingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the data at the current version, or null if it is not known.
+     *
+     * @see DataFingerprint
+     */
+    public Long getDataFingerprint() {
+        if (dataFingerprint == null && currentData != null) {
+            dataFingerprint = DataFingerprint.of(currentData);
+            currentData = null;
+        }
+        return dataFingerprint;
+    }
+
     /**
      * Adds a version of the model to memory.
+     * The first version added is the base version; every later version is the changes made to the model since.
      * @param model  The current iteration to be saved.
      * @return       Returns an updated {@code VersionHistory} to be saved.
      */
     public VersionHistory addVersion(Model model) {
-        ReadOnlyAddressBook dataToSave = new AddressBook().duplicateCopy(model.getAddressBook());
+        ChangeSet changes = model.takeChanges();
         if (currentVersionIndex == -1) {
-            versions.add(dataToSave);
             currentVersionIndex++;
             return this;
         }
+        return addChangeSet(changes);
+    }
 
-        if (currentVersionIndex == MAXIMUM_INDEX) {
-            versions.remove(0);
-            versions.add(dataToSave);
-            return this;
+    /**
+     * Adds {@code changes} as the version after the current one, discarding any versions that were undone.
+     * @param changes  The changes made since the current version.
+     * @return       Returns an updated {@code VersionHistory} to be saved.
+     */
+    public VersionHistory addChangeSet(ChangeSet changes) {
+        if (currentVersionIndex == -1) {
+            currentVersionIndex++;
         }
 
-        if (currentVersionIndex < versions.size() - 1) {
-            versions.subList(currentVersionIndex + 1, versions.size()).clear();
-            versions.add(dataToSave);
-            currentVersionIndex++;
+        if (currentVersionIndex < changeSets.size()) {
+            changeSets.subList(currentVersionIndex, changeSets.size()).clear();
+        }
+
+        changeSets.add(changes);
+        if (currentVersionIndex == MAXIMUM_INDEX) {
+            changeSets.remove(0);
             return this;
         }
 
-        versions.add(dataToSave);
         currentVersionIndex++;
         return this;
     }
 
     /**
      * Undoes the current iteration of the T_Assistant.
+     * Changes that were not added as a version, such as those of a failed command, are discarded first.
+     * @param model  The model to revert the most recent changes on.
      * @return   Returns a new {@code VersionHistory} with a new iteration of the T_Assistant saved to memory.
      * @throw    Throws an exception when the model cannot be undone any further.
      */
-    public VersionHistory undoVersion() throws UndoLimitException {
-        if (currentVersionIndex > 0) {
-            currentVersionIndex--;
-        } else {
+    public VersionHistory undoVersion(Model model) throws UndoLimitException {
+        if (currentVersionIndex <= 0) {
             throw new UndoLimitException();
         }
+        model.revertChanges(model.takeChanges());
+        currentVersionIndex--;
+        model.revertChanges(changeSets.get(currentVersionIndex));
         return this;
     }
 
     /**
      * Reverses the most recent undo command.
+     * Changes that were not added as a version, such as those of a failed command, are discarded first.
+     * @param model  The model to replay the undone changes on.
      * @return   Returns a new {@code VersionHistory} with a new iteration of the T_Assistant saved to memory.
      * @throw    Throws an exception when the model cannot be redone any further.
      */
-    public VersionHistory redoVersion() throws RedoLimitException {
-        if (currentVersionIndex < versions.size() - 1) {
-            currentVersionIndex++;
-        } else {
+    public VersionHistory redoVersion(Model model) throws RedoLimitException {
+        if (currentVersionIndex < 0 || currentVersionIndex >= changeSets.size()) {
             throw new RedoLimitException();
         }
+        model.revertChanges(model.takeChanges());
+        model.applyChanges(changeSets.get(currentVersionIndex));
+        currentVersionIndex++;
         return this;
     }
 }
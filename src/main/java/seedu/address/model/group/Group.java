@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -13,11 +12,13 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.group.exceptions.ExceedGroupSizeException;
-import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.task.Task;
 
 /**
  * Represents a Group in the address book.
+ * Members are referred to by their student numbers; the students themselves are kept in the address book's list
+ * of students only.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 
@@ -25,17 +26,17 @@ public class Group {
 
     private static final int MAXIMUM_STUDENTS_IN_GROUP = 5;
     private final GroupName groupName;
-    private final Set<Student> students = new HashSet<>();
+    private final Set<StudentNumber> studentNumbers = new LinkedHashSet<>();
     private final Set<Task> tasks = new LinkedHashSet<>();
 
     /**
-     * Creates a Group with {@code groupName}, {@code students}, and {@code tasks}.
+     * Creates a Group with {@code groupName}, the members with {@code studentNumbers}, and {@code tasks}.
      * Every field must be present and not null.
      */
-    public Group(GroupName groupName, Set<Student> students, Set<Task> tasks) {
-        requireAllNonNull(groupName, students);
+    public Group(GroupName groupName, Set<StudentNumber> studentNumbers, Set<Task> tasks) {
+        requireAllNonNull(groupName, studentNumbers);
         this.groupName = groupName;
-        this.students.addAll(students);
+        this.studentNumbers.addAll(studentNumbers);
         this.tasks.addAll(tasks);
     }
 
@@ -60,22 +61,26 @@ public class Group {
             Task newTask = new Task(task);
             tasks.add(newTask);
         }
-        for (Student student : otherGroup.getStudents()) {
-            Student newStudent = new Student(student);
-            this.students.add(newStudent);
-        }
+        this.studentNumbers.addAll(otherGroup.studentNumbers);
     }
 
     public GroupName getGroupName() {
         return this.groupName;
     }
 
-    public Set<Student> getStudents() {
-        return Collections.unmodifiableSet(students);
+    public Set<StudentNumber> getStudentNumbers() {
+        return Collections.unmodifiableSet(studentNumbers);
     }
 
     public boolean hasStudents() {
-        return !students.isEmpty();
+        return !studentNumbers.isEmpty();
+    }
+
+    /**
+     * Returns true if the student with {@code studentNumber} is a member of the group.
+     */
+    public boolean hasStudent(StudentNumber studentNumber) {
+        return studentNumbers.contains(studentNumber);
     }
 
     public Set<Task> getTasks() {
@@ -83,14 +88,14 @@ public class Group {
     }
 
     /**
-     * Adds {@code student} into {@code Group}.
+     * Adds the student with {@code studentNumber} into {@code Group}.
      * There can be a maximum of 5 students in each group.
      *
-     * @param student The student to be added.
+     * @param studentNumber The student number of the student to be added.
      */
-    public void add(Student student) {
-        if (students.size() < MAXIMUM_STUDENTS_IN_GROUP) {
-            students.add(student);
+    public void add(StudentNumber studentNumber) {
+        if (studentNumbers.size() < MAXIMUM_STUDENTS_IN_GROUP) {
+            studentNumbers.add(studentNumber);
         } else {
             throw new ExceedGroupSizeException();
         }
@@ -136,19 +141,13 @@ public class Group {
         tasks.addAll(updatedTaskSet);
     }
 
-    public void setTaskStatus() {
-        for (Task t : tasks) {
-            t.setStatus();
-        }
-    }
-
     /**
-     * Deletes {@code student} from {@code Group}.
+     * Deletes the student with {@code studentNumber} from {@code Group}.
      *
-     * @param student The student to be deleted.
+     * @param studentNumber The student number of the student to be deleted.
      */
-    public void delete(Student student) {
-        students.remove(student);
+    public void delete(StudentNumber studentNumber) {
+        studentNumbers.remove(studentNumber);
     }
 
     /**
@@ -193,20 +192,20 @@ public class Group {
 
         Group otherStudent = (Group) other;
         return groupName.equals(otherStudent.groupName)
-            && students.equals(otherStudent.students);
+            && studentNumbers.equals(otherStudent.studentNumbers);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(groupName, students);
+        return Objects.hash(groupName, studentNumbers);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
             .add("groupname", groupName)
-            .add("students", students)
+            .add("students", studentNumbers)
             .toString();
     }
 }
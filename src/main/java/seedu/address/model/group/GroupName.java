@@ -26,6 +26,8 @@ public class GroupName {
     public static final String VALIDATION_REGEX = "^(?i)(?<coursepart>CS2103T?)-(?<tutorialpart>[A-Z]\\d+)-"
         + "(?<grouppart>\\d+)$";
 
+    private static final Pattern NAME_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private final String fullName;
 
     /**
@@ -44,7 +46,7 @@ public class GroupName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return NAME_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -60,8 +62,7 @@ public class GroupName {
     private static String formatGroupName(String groupName) {
         // this method is only called after validity of groupName is checked.
         assert isValidName(groupName) : "Validity of group name should have been checked already.";
-        Pattern namePattern = Pattern.compile(VALIDATION_REGEX);
-        Matcher matcher = namePattern.matcher(groupName);
+        Matcher matcher = NAME_PATTERN.matcher(groupName);
         String coursePart = "";
         String tutorialPart = "";
         String groupPart = "";
@@ -3,8 +3,12 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.address.model.group.exceptions.GroupNotFoundException;
  *  * unique in terms of identity in the UniqueGroupList. However, the removal of a group uses Group#equals
  * (Object) so as to ensure that the group with exactly the same fields will be removed.
  * <p>
+ * The list keeps the position of every group indexed by group name, so that groups can be found by name in constant
+ * time. As {@code GroupName} is stored in upper case, its hash code agrees with its case-insensitive equality.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Group#isSameGroup(Group)
@@ -28,13 +35,14 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<GroupName, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return positions.containsKey(toCheck.getGroupName());
     }
 
     /**
@@ -47,6 +55,7 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd.getGroupName(), internalList.size() - 1);
     }
 
     /**
@@ -57,16 +66,18 @@ public class UniqueGroupList implements Iterable<Group> {
     public void setGroup(Group target, Group editedGroup) {
         requireAllNonNull(target, editedGroup);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new GroupNotFoundException();
         }
 
-        if (target.isSameGroup(editedGroup) && contains(editedGroup)) {
+        if (contains(editedGroup)) {
             throw new DuplicateGroupException();
         }
 
         internalList.set(index, editedGroup);
+        positions.remove(target.getGroupName());
+        positions.put(editedGroup.getGroupName(), index);
     }
 
     /**
@@ -75,9 +86,13 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new GroupNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getGroupName());
+        updatePositions(index);
     }
 
     /**
@@ -86,6 +101,8 @@ public class UniqueGroupList implements Iterable<Group> {
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        updatePositions(0);
     }
 
     /**
@@ -99,6 +116,8 @@ public class UniqueGroupList implements Iterable<Group> {
         }
 
         internalList.setAll(groups);
+        positions.clear();
+        updatePositions(0);
     }
 
     /**
@@ -106,10 +125,8 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public Group findGroupByName(GroupName groupName) {
         requireNonNull(groupName);
-        return internalList.stream()
-                .filter(group -> group.getGroupName().equals(groupName))
-                .findFirst()
-                .orElse(null);
+        Integer index = positions.get(groupName);
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -117,8 +134,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean containsGroupWithName(GroupName groupName) {
         requireNonNull(groupName);
-        return internalList.stream()
-                .anyMatch(group -> group.getGroupName().equals(groupName));
+        return positions.containsKey(groupName);
     }
 
     /**
@@ -126,12 +142,54 @@ public class UniqueGroupList implements Iterable<Group> {
      * The {@code groupName} must exist in the list.
      */
     public Group getGroupByName(GroupName groupName) {
-        for (Group group : internalList) {
-            if (groupName.equals(group.getGroupName())) {
-                return group;
-            }
+        Group group = findGroupByName(groupName);
+        if (group == null) {
+            throw new GroupNotFoundException();
+        }
+        return group;
+    }
+
+    /**
+     * Returns the position of {@code group} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Group group) {
+        requireNonNull(group);
+        Integer index = positions.get(group.getGroupName());
+        return index != null && internalList.get(index).equals(group) ? index : -1;
+    }
+
+    /**
+     * Replaces the {@code count} elements starting at {@code index} with {@code replacement}.
+     * Used to replay recorded changes, which were made to a list that was already unique.
+     */
+    public void replaceRange(int index, int count, List<Group> replacement) {
+        requireAllNonNull(replacement);
+        if (index == 0 && count == internalList.size()) {
+            internalList.setAll(replacement);
+            positions.clear();
+            updatePositions(0);
+        } else if (count == 1 && replacement.size() == 1) {
+            positions.remove(internalList.set(index, replacement.get(0)).getGroupName());
+            positions.put(replacement.get(0).getGroupName(), index);
+        } else {
+            internalList.subList(index, index + count).forEach(group -> positions.remove(group.getGroupName()));
+            internalList.remove(index, index + count);
+            internalList.addAll(index, replacement);
+            updatePositions(index);
+        }
+    }
+
+    /**
+     * Notifies the observers of the list that the group named like {@code group} has changed, as it or its members
+     * were edited in place. Only that group is replaced by itself, so list views redraw just its row.
+     * Does nothing if there is no such group.
+     */
+    public void refresh(Group group) {
+        requireNonNull(group);
+        Integer index = positions.get(group.getGroupName());
+        if (index != null) {
+            internalList.set(index, internalList.get(index));
         }
-        throw new GroupNotFoundException();
     }
 
     /**
@@ -143,7 +201,7 @@ public class UniqueGroupList implements Iterable<Group> {
 
     @Override
     public Iterator<Group> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -171,15 +229,23 @@ public class UniqueGroupList implements Iterable<Group> {
         return internalList.toString();
     }
 
+    /**
+     * Updates the positions of the groups from {@code from} onwards, after groups were added or removed there.
+     */
+    private void updatePositions(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getGroupName(), i);
+        }
+    }
+
     /**
      * Returns true if {@code groups} contains only unique groups.
      */
     private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+        Set<Object> keys = new HashSet<>();
+        for (Group group : groups) {
+            if (!keys.add(group.getGroupName())) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -24,6 +26,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(?i)u\\.nus\\.edu";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private final String value;
 
     /**
@@ -41,7 +45,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return EMAIL_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^(?!\\s)[A-Za-zÀ-ÖØ-öø-ÿ0-9'’\\- ]+$";
 
+    private static final Pattern NAME_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private final String fullName;
 
     /**
@@ -36,7 +40,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return NAME_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -110,6 +111,13 @@ public class Student {
 
     }
 
+    /**
+     * Returns a key that is equal for two students exactly when {@link #isSamePerson(Student)} holds for them.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(studentNumber, email);
+    }
+
     /**
      * Returns a copy of student which has no group.
      */
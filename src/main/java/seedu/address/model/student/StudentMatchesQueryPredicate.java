@@ -1,5 +1,6 @@
 package seedu.address.model.student;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -19,22 +20,33 @@ public class StudentMatchesQueryPredicate implements Predicate<Student> {
 
     @Override
     public boolean test(Student student) {
-        String groupName = student.getGroupName().isPresent()
-            ? student.getGroupName().get().getGroupName().toLowerCase() : noGroupKey;
+        List<String> fields = getSearchedFields(student);
         return
             keywords.stream().anyMatch(keyword -> {
                 String key = keyword.toLowerCase();
-                String studentNumber = student.getStudentNumber().getStudentNumber().toLowerCase();
-                String name = student.getName().getFullName().toLowerCase();
-                String email = student.getEmail().getEmail().toLowerCase();
-                return studentNumber.contains(key)
-                    || name.contains(key)
-                    || email.contains(key)
-                    || student.getTags().stream().anyMatch(tag -> tag.getTagName().toLowerCase().contains(key))
-                    || groupName.contains(key);
+                return fields.stream().anyMatch(field -> field.contains(key));
             });
     }
 
+    List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the fields of {@code student} that keywords are matched against, in lower case.
+     * A student without a group is matched by its group field holding {@code noGroupKey}.
+     */
+    static List<String> getSearchedFields(Student student) {
+        List<String> fields = new ArrayList<>();
+        fields.add(student.getStudentNumber().getStudentNumber().toLowerCase());
+        fields.add(student.getName().getFullName().toLowerCase());
+        fields.add(student.getEmail().getEmail().toLowerCase());
+        student.getTags().forEach(tag -> fields.add(tag.getTagName().toLowerCase()));
+        fields.add(student.getGroupName().isPresent()
+            ? student.getGroupName().get().getGroupName().toLowerCase() : noGroupKey);
+        return fields;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
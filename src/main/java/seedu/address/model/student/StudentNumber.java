@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's student number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentNumber(String)}
@@ -21,6 +23,8 @@ public class StudentNumber {
     private static final String END_PART_REGEX = "(?i)[A-Z]$";
     public static final String VALIDATION_REGEX = START_PART_REGEX + DIGIT_PART_REGEX + END_PART_REGEX;
 
+    private static final Pattern STUDENT_NUMBER_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private final String value;
 
     /**
@@ -38,7 +42,7 @@ public class StudentNumber {
      * Returns if a given string is a valid student number.
      */
     public static boolean isValidStudentNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return STUDENT_NUMBER_PATTERN.matcher(test).matches();
     }
 
     /**
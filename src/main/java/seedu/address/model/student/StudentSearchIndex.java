@@ -0,0 +1,131 @@
+package seedu.address.model.student;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Indexes students by the trigrams, the substrings of three characters, of the fields searched by
+ * {@link StudentMatchesQueryPredicate}.
+ * <p>
+ * A student whose field contains a keyword of three or more characters holds every trigram of that keyword, so the
+ * students holding all of them are the only candidates for a match. Candidates are then verified with the query
+ * itself, and keywords shorter than a trigram fall back to testing every student.
+ * <p>
+ * Students are immutable, so they are indexed by identity: a student object that was indexed when a query was
+ * answered and was not a candidate can never match it.
+ */
+class StudentSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Student>> postings = new HashMap<>();
+    private final Map<Student, Long> indexedAt = new IdentityHashMap<>();
+    private long sequence;
+
+    void add(Student student) {
+        for (String field : StudentMatchesQueryPredicate.getSearchedFields(student)) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                postings.computeIfAbsent(field.substring(i, i + GRAM_LENGTH), unused -> newIdentitySet())
+                        .add(student);
+            }
+        }
+        indexedAt.put(student, sequence++);
+    }
+
+    void remove(Student student) {
+        if (indexedAt.remove(student) == null) {
+            return;
+        }
+        for (String field : StudentMatchesQueryPredicate.getSearchedFields(student)) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                String gram = field.substring(i, i + GRAM_LENGTH);
+                Set<Student> students = postings.get(gram);
+                if (students != null && students.remove(student) && students.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        indexedAt.clear();
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the students accepted by {@code query}, testing only the candidates
+     * found in the index among the students indexed now.
+     */
+    Predicate<Student> search(StudentMatchesQueryPredicate query) {
+        Set<Student> candidates = findCandidates(query.getKeywords());
+        if (candidates == null) {
+            return query;
+        }
+        long answeredAt = sequence;
+        return student -> {
+            Long at = indexedAt.get(student);
+            if (at != null && at < answeredAt && !candidates.contains(student)) {
+                return false;
+            }
+            return query.test(student);
+        };
+    }
+
+    /**
+     * Returns the students that may contain any of {@code keywords}, or null if a keyword is too short to be
+     * looked up in the index.
+     */
+    private Set<Student> findCandidates(List<String> keywords) {
+        Set<Student> candidates = newIdentitySet();
+        for (String keyword : keywords) {
+            String key = keyword.toLowerCase();
+            if (key.length() < GRAM_LENGTH) {
+                return null;
+            }
+            candidates.addAll(findCandidates(key));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the students holding every trigram of {@code key}, intersecting the smallest posting list with the
+     * others.
+     */
+    private Set<Student> findCandidates(String key) {
+        Set<Student> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            Set<Student> students = postings.get(key.substring(i, i + GRAM_LENGTH));
+            if (students == null) {
+                return Set.of();
+            }
+            if (smallest == null || students.size() < smallest.size()) {
+                smallest = students;
+            }
+        }
+        Set<Student> candidates = newIdentitySet();
+        for (Student student : smallest) {
+            if (containsAllGrams(key, student)) {
+                candidates.add(student);
+            }
+        }
+        return candidates;
+    }
+
+    private boolean containsAllGrams(String key, Student student) {
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            if (!postings.get(key.substring(i, i + GRAM_LENGTH)).contains(student)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Student> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
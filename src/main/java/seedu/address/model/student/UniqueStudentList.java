@@ -3,8 +3,15 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +26,9 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * unique in terms of identity in the UniqueStudentList. However, the removal of a student uses Student#equals
  * (Object) so as to ensure that the student with exactly the same fields will be removed.
  * <p>
+ * The list keeps its students indexed by student number and by position, so that lookups and duplicate checks
+ * take constant time, and by the trigrams of their searched fields, so that queries only test likely matches.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Student#isSamePerson(Student)
@@ -28,13 +38,18 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    // students with the same number can only differ by email, so the lists here almost always hold one student
+    private final Map<StudentNumber, List<Student>> studentsByNumber = new HashMap<>();
+    private final Map<Student, Integer> positions = new HashMap<>();
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        List<Student> sameNumber = studentsByNumber.get(toCheck.getStudentNumber());
+        return sameNumber != null && sameNumber.stream().anyMatch(toCheck::isSamePerson);
     }
 
     /**
@@ -47,6 +62,7 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -57,7 +73,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setPerson(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -66,7 +82,8 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedStudent);
+        removeFromIndex(internalList.set(index, editedStudent));
+        addToIndex(editedStudent, index);
     }
 
     /**
@@ -75,9 +92,12 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        removeFromIndex(internalList.remove(index));
+        updatePositions(index);
     }
 
     /**
@@ -86,6 +106,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setPersons(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -98,7 +119,7 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
         internalList.setAll(students);
-
+        rebuildIndex();
     }
 
     /**
@@ -106,12 +127,50 @@ public class UniqueStudentList implements Iterable<Student> {
      * The {@code studentNumber} must exist in the list.
      */
     public Student getStudentByNumber(StudentNumber studentNumber) {
-        for (Student student : internalList) {
-            if (studentNumber.equals(student.getStudentNumber())) {
-                return student;
-            }
+        List<Student> sameNumber = studentsByNumber.get(studentNumber);
+        if (sameNumber == null) {
+            throw new StudentNotFoundException();
+        }
+        // the first of them in the list, as with a search from the front of the list
+        return sameNumber.stream().min(Comparator.comparing(positions::get)).get();
+    }
+
+    /**
+     * Returns the position of {@code student} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Student student) {
+        requireNonNull(student);
+        return positions.getOrDefault(student, -1);
+    }
+
+    /**
+     * Replaces the {@code count} elements starting at {@code index} with {@code replacement}.
+     * Used to replay recorded changes, which were made to a list that was already unique.
+     */
+    public void replaceRange(int index, int count, List<Student> replacement) {
+        requireAllNonNull(replacement);
+        if (index == 0 && count == internalList.size()) {
+            internalList.setAll(replacement);
+            rebuildIndex();
+        } else if (count == 1 && replacement.size() == 1) {
+            removeFromIndex(internalList.set(index, replacement.get(0)));
+            addToIndex(replacement.get(0), index);
+        } else {
+            internalList.subList(index, index + count).forEach(this::removeFromIndex);
+            internalList.remove(index, index + count);
+            internalList.addAll(index, replacement);
+            replacement.forEach(student -> addToIndex(student, -1));
+            updatePositions(index);
         }
-        throw new StudentNotFoundException();
+    }
+
+    /**
+     * Returns a predicate that accepts the same students as {@code query}, using the search index to skip the
+     * students in the list that cannot match.
+     */
+    public Predicate<Student> search(StudentMatchesQueryPredicate query) {
+        requireNonNull(query);
+        return searchIndex.search(query);
     }
 
     /**
@@ -123,7 +182,7 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -151,15 +210,54 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.toString();
     }
 
+    /**
+     * Indexes {@code student}, which is at {@code position} in the list.
+     */
+    private void addToIndex(Student student, int position) {
+        studentsByNumber.computeIfAbsent(student.getStudentNumber(), number -> new ArrayList<>(1)).add(student);
+        positions.put(student, position);
+        searchIndex.add(student);
+    }
+
+    /**
+     * Removes {@code student}, which is no longer in the list, from the index.
+     */
+    private void removeFromIndex(Student student) {
+        List<Student> sameNumber = studentsByNumber.get(student.getStudentNumber());
+        sameNumber.remove(student);
+        if (sameNumber.isEmpty()) {
+            studentsByNumber.remove(student.getStudentNumber());
+        }
+        positions.remove(student);
+        searchIndex.remove(student);
+    }
+
+    /**
+     * Updates the positions of the students from {@code from} onwards, after students were added or removed there.
+     */
+    private void updatePositions(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    private void rebuildIndex() {
+        studentsByNumber.clear();
+        positions.clear();
+        searchIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            addToIndex(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
      */
     private boolean personsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSamePerson(students.get(j))) {
-                    return false;
-                }
+        Set<Object> keys = new HashSet<>();
+        for (Student student : students) {
+            if (!keys.add(student.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.regex.Pattern;
 
 
 /**
@@ -27,6 +28,8 @@ public class Deadline implements Comparable<Deadline> {
         .ofPattern(DATETIME_FORMAT)
         .withResolverStyle(ResolverStyle.STRICT);
 
+    private static final Pattern DEADLINE_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
 
     private final LocalDateTime time;
 
@@ -55,7 +58,7 @@ public class Deadline implements Comparable<Deadline> {
      * Returns true if a given string is a valid deadline.
      */
     public static boolean isValidDeadline(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!DEADLINE_PATTERN.matcher(test).matches()) {
             return false;
         }
         try {
@@ -96,6 +99,6 @@ public class Deadline implements Comparable<Deadline> {
     }
 
     public String deadlineInInputFormat() {
-        return time.format(DateTimeFormatter.ofPattern(DATETIME_FORMAT));
+        return time.format(DATETIME_FORMATTER);
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,7 +12,9 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Task {
-    //
+    /** The time zone in which deadlines are given and compared against the current time. */
+    public static final ZoneId TIME_ZONE = ZoneId.of("Asia/Singapore");
+
     private final TaskName name;
     private final Deadline deadline;
     private Status status;
@@ -76,8 +79,13 @@ public class Task {
     }
 
     public void setStatus() {
-        ZoneId zid = ZoneId.of("Asia/Singapore");
-        LocalDateTime currentTime = LocalDateTime.now(zid);
+        setStatus(LocalDateTime.now(TIME_ZONE));
+    }
+
+    /**
+     * Marks this task as overdue if it is pending and its deadline is before {@code currentTime}.
+     */
+    public void setStatus(LocalDateTime currentTime) {
         if (deadline.getTime().isBefore(currentTime)
             && (this.status == Status.PENDING || this.status == Status.OVERDUE)) {
             this.status = Status.OVERDUE;
@@ -98,6 +106,19 @@ public class Task {
             && otherTask.getDeadline().equals(getDeadline());
     }
 
+    /**
+     * Returns a key that is equal for two tasks exactly when {@link #isSameTask(Task)} holds for them.
+     * The name is case-folded a character at a time, in the same way as {@code String#equalsIgnoreCase}.
+     */
+    public List<Object> getIdentityKey() {
+        String taskName = name.toString();
+        StringBuilder foldedName = new StringBuilder(taskName.length());
+        for (int i = 0; i < taskName.length(); i++) {
+            foldedName.append(Character.toLowerCase(Character.toUpperCase(taskName.charAt(i))));
+        }
+        return List.of(foldedName.toString(), deadline);
+    }
+
     /**
      * Increases the number of groups with {@code Task} by 1.
      */
@@ -18,12 +18,19 @@ public class TaskNameContainsKeywordsPredicate implements Predicate<Task> {
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream().anyMatch(keyword -> {
-            String key = keyword.toLowerCase();
-            TaskName taskName = task.getTaskName();
-            String taskNameString = taskName.toString().toLowerCase();
-            return taskNameString.contains(key);
-        });
+        String taskName = normalize(task);
+        return keywords.stream().anyMatch(keyword -> taskName.contains(keyword.toLowerCase()));
+    }
+
+    List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the name of {@code task} as keywords are matched against it, in lower case.
+     */
+    static String normalize(Task task) {
+        return task.getTaskName().toString().toLowerCase();
     }
 
     @Override
@@ -0,0 +1,131 @@
+package seedu.address.model.task;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Indexes tasks by their normalized names, the lower-cased names matched by {@link TaskNameContainsKeywordsPredicate}.
+ * <p>
+ * Tasks repeated every week share a few distinct names, so keywords are matched against each distinct name once
+ * rather than against every task. Distinct names are further indexed by their trigrams, the substrings of three
+ * characters: a name containing a keyword of three or more characters holds every trigram of that keyword, so only
+ * the names holding all of them need to be checked. Shorter keywords are checked against every distinct name.
+ * <p>
+ * The name of a task never changes, so tasks edited in place keep their entries.
+ */
+class TaskNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Task, String> normalizedNames = new HashMap<>();
+    private final Map<String, NameEntry> names = new HashMap<>();
+    private final Map<String, Set<String>> namesByGram = new HashMap<>();
+    private long sequence;
+
+    /**
+     * The number of indexed tasks with a normalized name, and when the name was first indexed.
+     */
+    private static class NameEntry {
+        private final long indexedAt;
+        private int taskCount;
+
+        private NameEntry(long indexedAt) {
+            this.indexedAt = indexedAt;
+        }
+    }
+
+    void add(Task task) {
+        String name = TaskNameContainsKeywordsPredicate.normalize(task);
+        normalizedNames.put(task, name);
+        NameEntry entry = names.get(name);
+        if (entry == null) {
+            entry = new NameEntry(sequence++);
+            names.put(name, entry);
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                namesByGram.computeIfAbsent(name.substring(i, i + GRAM_LENGTH), unused -> new HashSet<>()).add(name);
+            }
+        }
+        entry.taskCount++;
+    }
+
+    void remove(Task task) {
+        String name = normalizedNames.remove(task);
+        if (name == null) {
+            return;
+        }
+        NameEntry entry = names.get(name);
+        if (--entry.taskCount > 0) {
+            return;
+        }
+        names.remove(name);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            String gram = name.substring(i, i + GRAM_LENGTH);
+            Set<String> gramNames = namesByGram.get(gram);
+            if (gramNames != null && gramNames.remove(name) && gramNames.isEmpty()) {
+                namesByGram.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        normalizedNames.clear();
+        names.clear();
+        namesByGram.clear();
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the tasks accepted by {@code query}.
+     * The distinct names matching the query are found once, and every indexed task is then tested by looking up
+     * its name; tasks whose names were not indexed when the query was answered are tested with the query itself.
+     */
+    Predicate<Task> search(TaskNameContainsKeywordsPredicate query) {
+        Set<String> matchedNames = findMatchingNames(query.getKeywords());
+        long answeredAt = sequence;
+        return task -> {
+            String name = normalizedNames.get(task);
+            NameEntry entry = name == null ? null : names.get(name);
+            if (entry == null || entry.indexedAt >= answeredAt) {
+                return query.test(task);
+            }
+            return matchedNames.contains(name);
+        };
+    }
+
+    private Set<String> findMatchingNames(List<String> keywords) {
+        Set<String> matchedNames = new HashSet<>();
+        for (String keyword : keywords) {
+            String key = keyword.toLowerCase();
+            for (String name : findCandidateNames(key)) {
+                if (name.contains(key)) {
+                    matchedNames.add(name);
+                }
+            }
+        }
+        return matchedNames;
+    }
+
+    /**
+     * Returns the names that may contain {@code key}: those holding its rarest trigram, or every name if
+     * {@code key} is shorter than a trigram.
+     */
+    private Set<String> findCandidateNames(String key) {
+        if (key.length() < GRAM_LENGTH) {
+            return names.keySet();
+        }
+        Set<String> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            Set<String> gramNames = namesByGram.get(key.substring(i, i + GRAM_LENGTH));
+            if (gramNames == null) {
+                return Set.of();
+            }
+            if (smallest == null || gramNames.size() < smallest.size()) {
+                smallest = gramNames;
+            }
+        }
+        return smallest;
+    }
+}
@@ -3,8 +3,17 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +29,11 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals
  * (Object) so as to ensure that the task with exactly the same fields will be removed.
  * <p>
+ * The list keeps the position of every task indexed by {@link Task#getIdentityKey()}, so that finding the task
+ * that is the same as a given task takes constant time, the tasks indexed by name, so that searching by name
+ * only checks each distinct name that may match, and the tasks sorted by deadline, so that the tasks due in a
+ * period are found without checking the others.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -29,13 +43,25 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<List<Object>, Integer> positions = new HashMap<>();
+    private final TaskNameIndex nameIndex = new TaskNameIndex();
+    private final NavigableMap<LocalDateTime, List<Task>> tasksByDeadline = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positions.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the task in the list that is the same task as {@code task}, or null if there is none.
+     */
+    public Task findSameTask(Task task) {
+        requireNonNull(task);
+        Integer index = positions.get(task.getIdentityKey());
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -46,6 +72,8 @@ public class UniqueTaskList implements Iterable<Task> {
         requireNonNull(toAdd);
         if (!contains(toAdd)) {
             internalList.add(toAdd);
+            positions.put(toAdd.getIdentityKey(), internalList.size() - 1);
+            addToIndex(toAdd);
         }
     }
 
@@ -57,7 +85,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -66,7 +94,10 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        removeFromIndex(internalList.set(index, editedTask));
+        positions.remove(target.getIdentityKey());
+        positions.put(editedTask.getIdentityKey(), index);
+        addToIndex(editedTask);
     }
 
     /**
@@ -75,9 +106,13 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        removeFromIndex(internalList.remove(index));
+        positions.remove(toRemove.getIdentityKey());
+        updatePositions(index);
     }
 
     /**
@@ -86,6 +121,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -99,6 +135,79 @@ public class UniqueTaskList implements Iterable<Task> {
         }
 
         internalList.setAll(tasks);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the position of {@code task} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Task task) {
+        requireNonNull(task);
+        Integer index = positions.get(task.getIdentityKey());
+        return index != null && internalList.get(index).equals(task) ? index : -1;
+    }
+
+    /**
+     * Replaces the {@code count} elements starting at {@code index} with {@code replacement}.
+     * Used to replay recorded changes, which were made to a list that was already unique.
+     */
+    public void replaceRange(int index, int count, List<Task> replacement) {
+        requireAllNonNull(replacement);
+        if (index == 0 && count == internalList.size()) {
+            internalList.setAll(replacement);
+            rebuildIndex();
+        } else if (count == 1 && replacement.size() == 1) {
+            Task removed = internalList.set(index, replacement.get(0));
+            positions.remove(removed.getIdentityKey());
+            removeFromIndex(removed);
+            positions.put(replacement.get(0).getIdentityKey(), index);
+            addToIndex(replacement.get(0));
+        } else {
+            internalList.subList(index, index + count).forEach(task -> {
+                positions.remove(task.getIdentityKey());
+                removeFromIndex(task);
+            });
+            internalList.remove(index, index + count);
+            internalList.addAll(index, replacement);
+            replacement.forEach(this::addToIndex);
+            updatePositions(index);
+        }
+    }
+
+    /**
+     * Notifies the observers of the list that the task that is the same task as {@code task} has changed, as it or
+     * the groups holding it were edited in place. Only that task is replaced by itself, so list views redraw just
+     * its row. Does nothing if there is no such task.
+     */
+    public void refresh(Task task) {
+        requireNonNull(task);
+        Integer index = positions.get(task.getIdentityKey());
+        if (index != null) {
+            internalList.set(index, internalList.get(index));
+        }
+    }
+
+    /**
+     * Returns a predicate that accepts the same tasks as {@code query}, matching the keywords against each distinct
+     * task name in the name index rather than against every task.
+     */
+    public Predicate<Task> search(TaskNameContainsKeywordsPredicate query) {
+        requireNonNull(query);
+        return nameIndex.search(query);
+    }
+
+    /**
+     * Returns the tasks due from {@code from} to {@code to}, both inclusive, in order of deadline.
+     * Takes time logarithmic in the size of the list and linear in the number of tasks returned.
+     */
+    public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        List<Task> dueTasks = new ArrayList<>();
+        tasksByDeadline.subMap(from, true, to, true).values().forEach(dueTasks::addAll);
+        return dueTasks;
     }
 
     /**
@@ -110,7 +219,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -138,15 +247,51 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.toString();
     }
 
+    /**
+     * Updates the positions of the tasks from {@code from} onwards, after tasks were added or removed there.
+     */
+    private void updatePositions(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentityKey(), i);
+        }
+    }
+
+    /**
+     * Indexes {@code task} by name and by deadline.
+     */
+    private void addToIndex(Task task) {
+        nameIndex.add(task);
+        tasksByDeadline.computeIfAbsent(task.getDeadline().getTime(), deadline -> new ArrayList<>(1)).add(task);
+    }
+
+    /**
+     * Removes {@code task}, which is no longer in the list, from the name and deadline indexes.
+     */
+    private void removeFromIndex(Task task) {
+        nameIndex.remove(task);
+        List<Task> sameDeadline = tasksByDeadline.get(task.getDeadline().getTime());
+        sameDeadline.remove(task);
+        if (sameDeadline.isEmpty()) {
+            tasksByDeadline.remove(task.getDeadline().getTime());
+        }
+    }
+
+    private void rebuildIndex() {
+        positions.clear();
+        nameIndex.clear();
+        tasksByDeadline.clear();
+        updatePositions(0);
+        internalList.forEach(this::addToIndex);
+    }
+
     /**
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<Object> keys = new HashSet<>();
+        for (Task task : tasks) {
+            if (!keys.add(task.getIdentityKey())) {
+                return false;
             }
         }
         return true;
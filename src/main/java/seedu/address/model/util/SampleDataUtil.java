@@ -2,6 +2,7 @@ package seedu.address.model.util;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -66,33 +67,13 @@ public class SampleDataUtil {
     public static Group[] getSampleGroups() {
         return new Group[]{
             new Group(new GroupName("CS2103-F12-1"),
-                Set.<Student>of(
-                    new Student(new Name("Alex Yeoh"), new Email(
-                        "alexyeoh@u.nus.edu"),
-                        getTagSet("TD7"), new StudentNumber("A0737935G"),
-                        Optional.of(new GroupName("CS2103-F12-1"))),
-                    new Student(new Name("Bernice Yu"), new Email("berniceyu@u.nus.edu"),
-                        getTagSet("TD7", "friends"), new StudentNumber("A0597991H"),
-                        Optional.of(new GroupName("CS2103-F12-1"))),
-                    new Student(new Name("Charlotte Oliveiro"), new Email("charlotte@u.nus.edu"),
-                        getTagSet("TD7"), new StudentNumber("A0632228J"),
-                        Optional.of(new GroupName("CS2103-F12-1")))),
+                getStudentNumberSet("A0737935G", "A0597991H", "A0632228J"),
                 Set.<Task>of(
                     new Task(new TaskName("Add postmortem to team docs"),
                         new Deadline(LocalDateTime.of(2024, 10, 24, 23, 59)),
                         Status.PENDING, 1))),
             new Group(new GroupName("CS2103-F11-1"),
-                Set.<Student>of(
-                    new Student(new Name("David Li"), new Email(
-                        "lidavid@u.nus.edu"),
-                        getTagSet("TD8"), new StudentNumber("A0965321G"),
-                        Optional.of(new GroupName("CS2103-F11-1"))),
-                    new Student(new Name("Irfan Ibrahim"), new Email("irfan@u.nus.edu"),
-                        getTagSet("TD8"), new StudentNumber("A0467953H"),
-                        Optional.of(new GroupName("CS2103-F11-1"))),
-                    new Student(new Name("Roy Balakrishnan"), new Email("royb@u.nus.edu"),
-                        getTagSet("TD8"), new StudentNumber("A0122764H"),
-                        Optional.of(new GroupName("CS2103-F11-1")))),
+                getStudentNumberSet("A0965321G", "A0467953H", "A0122764H"),
                 Set.<Task>of(
                     new Task(new TaskName("Add postmortem to team docs"),
                         new Deadline(LocalDateTime.of(2024, 10, 24, 23, 59)),
@@ -127,4 +108,13 @@ public class SampleDataUtil {
             .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns a set containing the student numbers given, in the same order.
+     */
+    public static Set<StudentNumber> getStudentNumberSet(String... strings) {
+        return Arrays.stream(strings)
+            .map(StudentNumber::new)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
 }
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Performs writes to the hard disk on a dedicated thread, so that saving does not hold up the caller.
+ * <p>
+ * Every write is submitted with a key, usually the file it writes to. A write that has not started yet is replaced
+ * by a later write with the same key, so a burst of saves to the same file results in only a few writes.
+ * The replacing write takes the place of the last write submitted, so writes are always performed in the order
+ * of their submission, and a file is never written with data newer than a write submitted after it.
+ * Writes should therefore only capture data that does not change after they are submitted.
+ */
+public class AsyncWriter {
+
+    /**
+     * A write to the hard disk.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncWriter.class);
+
+    private final Map<Object, Write> pendingWrites = new LinkedHashMap<>();
+    private final Thread thread;
+    private boolean isWriting = false;
+    private boolean isShutdown = false;
+    private int completedWrites = 0;
+    private volatile Consumer<IOException> errorHandler = e -> { };
+
+    /**
+     * Creates an {@code AsyncWriter} and starts its thread.
+     */
+    public AsyncWriter() {
+        thread = new Thread(this::processWrites, "storage-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Sets the handler that is called, on the writer thread, with the exception of every write that fails.
+     * An unchecked exception thrown by a write is passed to the handler as the cause of an {@code IOException}.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireAllNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules {@code write} after every other pending write, replacing the pending write with the same
+     * {@code key} if there is one.
+     */
+    public synchronized void submit(Object key, Write write) {
+        requireAllNonNull(key, write);
+        if (isShutdown) {
+            throw new IllegalStateException("Writer has been shut down.");
+        }
+        // re-inserting moves the key to the end, as put keeps the position of a key already present
+        pendingWrites.remove(key);
+        pendingWrites.put(key, write);
+        notifyAll();
+    }
+
+    /**
+     * Schedules {@code write}, which is never replaced by a later write.
+     */
+    public void submit(Write write) {
+        submit(new Object(), write);
+    }
+
+    /**
+     * Waits until every write submitted so far has finished.
+     */
+    public synchronized void flush() {
+        try {
+            while (!pendingWrites.isEmpty() || isWriting) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Finishes every write submitted so far and stops the writer thread.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            isShutdown = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of writes performed so far.
+     */
+    public synchronized int getCompletedWrites() {
+        return completedWrites;
+    }
+
+    private void processWrites() {
+        while (true) {
+            Write write;
+            synchronized (this) {
+                try {
+                    while (pendingWrites.isEmpty() && !isShutdown) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (pendingWrites.isEmpty()) {
+                    return;
+                }
+                Iterator<Write> iterator = pendingWrites.values().iterator();
+                write = iterator.next();
+                iterator.remove();
+                isWriting = true;
+            }
+
+            try {
+                write.run();
+            } catch (IOException e) {
+                logger.warning("Failed to write to the hard disk: " + StringUtil.getDetails(e));
+                errorHandler.accept(e);
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while writing to the hard disk: " + StringUtil.getDetails(e));
+                errorHandler.accept(new IOException(e.toString(), e));
+            } finally {
+                synchronized (this) {
+                    isWriting = false;
+                    completedWrites++;
+                    notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ListChange;
+import seedu.address.model.VersionHistory;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskName;
+
+/**
+ * Reads address books and version histories written by {@link BinaryWriter}.
+ * Counts read from the file are never used to size allocations, so that a corrupted count fails the read with an
+ * {@code IllegalValueException} once the file runs out, rather than running out of memory.
+ */
+class BinaryReader {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a T_Assistant binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Data file was written by a newer version of "
+            + "T_Assistant.";
+    public static final String MESSAGE_WRONG_KIND = "Data file holds a different kind of data.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted.";
+
+    private final DataInputStream in;
+    private final List<String> stringTable = new ArrayList<>();
+    private int formatVersion;
+
+    BinaryReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Reads the header of the file and checks that it holds data of the given {@code kind}.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of the given kind.
+     */
+    void readHeader(int kind) throws IOException, IllegalValueException {
+        if (in.readInt() != BinaryWriter.MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        formatVersion = readVarInt();
+        if (formatVersion > BinaryWriter.FORMAT_VERSION) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        if (readVarInt() != kind) {
+            throw new IllegalValueException(MESSAGE_WRONG_KIND);
+        }
+    }
+
+    /**
+     * Reads an address book.
+     *
+     * @throws IllegalValueException if the address book read violates any data constraints.
+     */
+    AddressBook readAddressBook() throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        Set<StudentNumber> studentNumbers = new HashSet<>();
+        for (Student student : readStudents()) {
+            if (addressBook.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addStudent(student);
+            studentNumbers.add(student.getStudentNumber());
+        }
+        for (Group group : readGroups()) {
+            if (addressBook.hasGroup(group)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+            }
+            if (!studentNumbers.containsAll(group.getStudentNumbers())) {
+                throw new IllegalValueException(JsonAdaptedGroup.MESSAGE_UNKNOWN_STUDENT);
+            }
+            addressBook.addGroup(group);
+        }
+        for (Task task : readTasks()) {
+            if (addressBook.hasTask(task)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK);
+            }
+            addressBook.addTask(task);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads a version history.
+     *
+     * @throws IllegalValueException if the version history read violates any data constraints.
+     */
+    VersionHistory readVersionHistory() throws IOException, IllegalValueException {
+        VersionHistory versionHistory = new VersionHistory();
+        int size = readCount();
+        for (int i = 0; i < size; i++) {
+            versionHistory.getChangeSets().add(readChangeSet());
+        }
+        int currentVersionIndex = readVarInt() - 1;
+        if (currentVersionIndex < -1 || currentVersionIndex > size) {
+            throw new IllegalValueException(JsonSerializableVersionHistory.MESSAGE_INVALID_VERSION_INDEX);
+        }
+        versionHistory.setCurrentVersionIndex(currentVersionIndex);
+        if (formatVersion >= 3 && in.readBoolean()) {
+            versionHistory.setDataFingerprint(in.readLong());
+        }
+        return versionHistory;
+    }
+
+    private ChangeSet readChangeSet() throws IOException, IllegalValueException {
+        ChangeSet changeSet = new ChangeSet();
+        int studentChanges = readCount();
+        for (int i = 0; i < studentChanges; i++) {
+            changeSet.addStudentChange(new ListChange<>(readVarInt(), readStudents(), readStudents()));
+        }
+        int groupChanges = readCount();
+        for (int i = 0; i < groupChanges; i++) {
+            changeSet.addGroupChange(new ListChange<>(readVarInt(), readGroups(), readGroups()));
+        }
+        int taskChanges = readCount();
+        for (int i = 0; i < taskChanges; i++) {
+            changeSet.addTaskChange(new ListChange<>(readVarInt(), readTasks(), readTasks()));
+        }
+        return changeSet;
+    }
+
+    private List<Student> readStudents() throws IOException, IllegalValueException {
+        int size = readCount();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            students.add(readStudent());
+        }
+        return students;
+    }
+
+    private List<Group> readGroups() throws IOException, IllegalValueException {
+        int size = readCount();
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            groups.add(readGroup());
+        }
+        return groups;
+    }
+
+    private List<Task> readTasks() throws IOException, IllegalValueException {
+        int size = readCount();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tasks.add(readTask());
+        }
+        return tasks;
+    }
+
+    private Student readStudent() throws IOException, IllegalValueException {
+        String studentNumber = readString();
+        String name = readString();
+        String email = readString();
+        int tagCount = readCount();
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(readString());
+        }
+        String groupName = in.readBoolean() ? readString() : null;
+
+        if (!StudentNumber.isValidStudentNumber(studentNumber)) {
+            throw new IllegalValueException(StudentNumber.MESSAGE_CONSTRAINTS);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        if (groupName != null && !GroupName.isValidName(groupName)) {
+            throw new IllegalValueException(GroupName.MESSAGE_CONSTRAINTS);
+        }
+        return new Student(new Name(name), new Email(email), tags, new StudentNumber(studentNumber),
+                Optional.ofNullable(groupName).map(GroupName::new));
+    }
+
+    private Group readGroup() throws IOException, IllegalValueException {
+        String groupName = readString();
+        if (!GroupName.isValidName(groupName)) {
+            throw new IllegalValueException(GroupName.MESSAGE_CONSTRAINTS);
+        }
+        Set<StudentNumber> studentNumbers = new LinkedHashSet<>();
+        if (formatVersion < 2) {
+            // members were written in full
+            readStudents().forEach(student -> studentNumbers.add(student.getStudentNumber()));
+        } else {
+            int size = readCount();
+            for (int i = 0; i < size; i++) {
+                String studentNumber = readString();
+                if (!StudentNumber.isValidStudentNumber(studentNumber)) {
+                    throw new IllegalValueException(StudentNumber.MESSAGE_CONSTRAINTS);
+                }
+                studentNumbers.add(new StudentNumber(studentNumber));
+            }
+        }
+        Set<Task> tasks = new LinkedHashSet<>(readTasks());
+        return new Group(new GroupName(groupName), studentNumbers, tasks);
+    }
+
+    private Task readTask() throws IOException, IllegalValueException {
+        String taskName = readString();
+        long epochSecond = in.readLong();
+        int nano = readVarInt();
+        int status = in.readUnsignedByte();
+        int groupsWithTask = readVarInt();
+
+        if (!TaskName.isValidName(taskName)) {
+            throw new IllegalValueException(TaskName.NAME_CONSTRAINT);
+        }
+        if (status >= Status.values().length) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        LocalDateTime time;
+        try {
+            time = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
+        }
+        return new Task(new TaskName(taskName), new Deadline(time), Status.values()[status], groupsWithTask);
+    }
+
+    private String readString() throws IOException, IllegalValueException {
+        int index = readVarInt();
+        if (index < 0 || index > stringTable.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (index < stringTable.size()) {
+            return stringTable.get(index);
+        }
+        int length = readCount();
+        // read without allocating the length up front, as a corrupted length can be far longer than the file
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        stringTable.add(value);
+        return value;
+    }
+
+    /**
+     * Reads a variable-length integer that counts elements, which cannot be negative.
+     */
+    private int readCount() throws IOException, IllegalValueException {
+        int count = readVarInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private int readVarInt() throws IOException, IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.VersionHistory;
+
+/**
+ * A class to access VersionHistory stored in the hard disk as a binary file.
+ */
+public class BinaryVersionHistoryStorage implements VersionHistoryStorage {
+
+    private Path filePath;
+    private final AsyncWriter writer;
+
+    public BinaryVersionHistoryStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that saves on the thread of {@code writer}, or synchronously if {@code writer} is null.
+     * Consecutive saves that have not been written yet are collapsed into one.
+     */
+    public BinaryVersionHistoryStorage(Path filePath, AsyncWriter writer) {
+        this.filePath = filePath;
+        this.writer = writer;
+    }
+
+    @Override
+    public Path getVersionHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<VersionHistory> readVersionHistory() throws DataLoadingException {
+        requireNonNull(filePath);
+        if (writer != null) {
+            writer.flush();
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            BinaryReader reader = new BinaryReader(in);
+            reader.readHeader(BinaryWriter.KIND_VERSION_HISTORY);
+            return Optional.of(reader.readVersionHistory());
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveVersionHistory(VersionHistory versionHistory) throws IOException {
+        if (writer == null) {
+            writeVersionHistory(versionHistory);
+            return;
+        }
+        VersionHistory versionHistoryCopy = versionHistory.copy();
+        writer.submit(filePath, () -> writeVersionHistory(versionHistoryCopy));
+    }
+
+    private void writeVersionHistory(VersionHistory versionHistory) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            BinaryWriter binaryWriter = new BinaryWriter(out);
+            binaryWriter.writeHeader(BinaryWriter.KIND_VERSION_HISTORY);
+            binaryWriter.writeVersionHistory(versionHistory);
+            binaryWriter.flush();
+        }
+    }
+
+}
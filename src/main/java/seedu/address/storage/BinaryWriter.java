@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.VersionHistory;
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes address books and version histories in the compact binary format read by {@link BinaryReader}.
+ * <p>
+ * Every count and index is written as a variable-length integer, so small values take a single byte.
+ * Strings are kept in a table that is built while writing: the first occurrence of a string is written in full
+ * and every later occurrence is written as its position in the table. Repeated values such as group names,
+ * tag names, task names and the copies of students and tasks kept by groups therefore cost a byte or two each.
+ */
+class BinaryWriter {
+
+    static final int MAGIC = 0x54415342; // "TASB"
+    /**
+     * Version 2 refers to the members of groups by student number instead of writing them in full.
+     * Version 3 writes the fingerprint of the data with the version history.
+     */
+    static final int FORMAT_VERSION = 3;
+    static final int KIND_ADDRESS_BOOK = 1;
+    static final int KIND_VERSION_HISTORY = 2;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    BinaryWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    /**
+     * Writes the header of a file holding data of the given {@code kind}.
+     */
+    void writeHeader(int kind) throws IOException {
+        out.writeInt(MAGIC);
+        writeVarInt(FORMAT_VERSION);
+        writeVarInt(kind);
+    }
+
+    void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        writeStudents(addressBook.getStudentList());
+        writeGroups(addressBook.getGroupList());
+        writeTasks(addressBook.getTaskList());
+    }
+
+    void writeVersionHistory(VersionHistory versionHistory) throws IOException {
+        writeVarInt(versionHistory.getChangeSets().size());
+        for (ChangeSet changeSet : versionHistory.getChangeSets()) {
+            writeChangeSet(changeSet);
+        }
+        // the index is at least -1
+        writeVarInt(versionHistory.getCurrentVersionIndex() + 1);
+        Long dataFingerprint = versionHistory.getDataFingerprint();
+        out.writeBoolean(dataFingerprint != null);
+        if (dataFingerprint != null) {
+            out.writeLong(dataFingerprint);
+        }
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeChangeSet(ChangeSet changeSet) throws IOException {
+        writeVarInt(changeSet.getStudentChanges().size());
+        for (ListChange<Student> change : changeSet.getStudentChanges()) {
+            writeVarInt(change.getIndex());
+            writeStudents(change.getRemoved());
+            writeStudents(change.getInserted());
+        }
+        writeVarInt(changeSet.getGroupChanges().size());
+        for (ListChange<Group> change : changeSet.getGroupChanges()) {
+            writeVarInt(change.getIndex());
+            writeGroups(change.getRemoved());
+            writeGroups(change.getInserted());
+        }
+        writeVarInt(changeSet.getTaskChanges().size());
+        for (ListChange<Task> change : changeSet.getTaskChanges()) {
+            writeVarInt(change.getIndex());
+            writeTasks(change.getRemoved());
+            writeTasks(change.getInserted());
+        }
+    }
+
+    private void writeStudents(Collection<Student> students) throws IOException {
+        writeVarInt(students.size());
+        for (Student student : students) {
+            writeStudent(student);
+        }
+    }
+
+    private void writeGroups(List<Group> groups) throws IOException {
+        writeVarInt(groups.size());
+        for (Group group : groups) {
+            writeGroup(group);
+        }
+    }
+
+    private void writeTasks(Collection<Task> tasks) throws IOException {
+        writeVarInt(tasks.size());
+        for (Task task : tasks) {
+            writeTask(task);
+        }
+    }
+
+    private void writeStudent(Student student) throws IOException {
+        writeString(student.getStudentNumber().getStudentNumber());
+        writeString(student.getName().getFullName());
+        writeString(student.getEmail().getEmail());
+        writeVarInt(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeString(tag.getTagName());
+        }
+        out.writeBoolean(student.getGroupName().isPresent());
+        if (student.getGroupName().isPresent()) {
+            writeString(student.getGroupName().get().getGroupName());
+        }
+    }
+
+    private void writeGroup(Group group) throws IOException {
+        writeString(group.getGroupName().getGroupName());
+        writeVarInt(group.getStudentNumbers().size());
+        for (StudentNumber studentNumber : group.getStudentNumbers()) {
+            writeString(studentNumber.getStudentNumber());
+        }
+        writeTasks(group.getTasks());
+    }
+
+    private void writeTask(Task task) throws IOException {
+        writeString(task.getTaskName().getTaskName());
+        LocalDateTime time = task.getDeadline().getTime();
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(time.getNano());
+        out.writeByte(task.getStatus().ordinal());
+        writeVarInt(task.getGroupsWithTask());
+    }
+
+    private void writeString(String value) throws IOException {
+        Integer index = stringTable.get(value);
+        if (index != null) {
+            writeVarInt(index);
+            return;
+        }
+        // an index one past the end of the table introduces a new string
+        writeVarInt(stringTable.size());
+        stringTable.put(value, stringTable.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the 32 bits of {@code value} seven at a time, least significant first.
+     */
+    private void writeVarInt(int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+}
@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.VersionHistory;
+
+/**
+ * A class to access VersionHistory stored in the hard disk as a json file and an append-only journal.
+ * <p>
+ * The json file holds the version history as of some journal sequence number. Every save after that appends
+ * a single compact record to the journal: either the change set of the version that was added, or the new
+ * version index after an undo or redo. Reading replays the journal records newer than the json file.
+ * Once the journal grows past a threshold, the json file is rewritten on a background thread and the records
+ * it now includes are dropped from the journal.
+ */
+public class JournaledVersionHistoryStorage implements VersionHistoryStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledVersionHistoryStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+    private final AsyncWriter writer;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "versionhistory-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guards writes to the json file, which happen on both the saving and the compacting thread.
+    private final Object baseLock = new Object();
+    private long baseSequence;
+
+    // The version history described by the files on disk, and the records in the journal.
+    private boolean isInSync = false;
+    private final List<ChangeSet> savedChangeSets = new ArrayList<>();
+    private int savedVersionIndex = -1;
+    private Long savedDataFingerprint;
+    private long sequence;
+    private final List<JournalEntry> journalEntries = new ArrayList<>();
+    private boolean isCompactionScheduled = false;
+
+    public JournaledVersionHistoryStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, null);
+    }
+
+    /**
+     * Creates a storage that appends to the journal on the thread of {@code writer}, or synchronously if
+     * {@code writer} is null. Saves are never collapsed, as every one of them is a single small record.
+     */
+    public JournaledVersionHistoryStorage(Path filePath, AsyncWriter writer) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, writer);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds {@code compactionThreshold} records.
+     */
+    public JournaledVersionHistoryStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, null);
+    }
+
+    private JournaledVersionHistoryStorage(Path filePath, int compactionThreshold, AsyncWriter writer) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.writer = writer;
+    }
+
+    @Override
+    public Path getVersionHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getVersionHistoryFilePaths() {
+        return List.of(filePath, journalFilePath);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<VersionHistory> readVersionHistory() throws DataLoadingException {
+        if (writer != null) {
+            writer.flush();
+        }
+        return readJournaledVersionHistory();
+    }
+
+    private synchronized Optional<VersionHistory> readJournaledVersionHistory() throws DataLoadingException {
+        isInSync = false;
+        Optional<JsonSerializableVersionHistory> jsonVersionHistory = JsonUtil.readJsonStream(
+                filePath, JsonSerializableVersionHistory::read);
+        if (!jsonVersionHistory.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        VersionHistory versionHistory = new VersionHistory();
+        long readSequence = 0;
+        List<JournalEntry> readEntries = new ArrayList<>();
+        try {
+            if (jsonVersionHistory.isPresent()) {
+                versionHistory = jsonVersionHistory.get().toModelType();
+                readSequence = jsonVersionHistory.get().getJournalSequence();
+            }
+            long includedSequence = readSequence;
+            List<String> lines = Files.exists(journalFilePath)
+                    ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)
+                    : List.of();
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    // Only the last record can be incomplete, if the application stopped while appending it.
+                    logger.warning("Ignoring incomplete journal record: " + StringUtil.getDetails(e));
+                    break;
+                }
+                if (record.getSequence() > includedSequence) {
+                    record.applyTo(versionHistory);
+                    includedSequence = record.getSequence();
+                }
+                readSequence = Math.max(readSequence, record.getSequence());
+                readEntries.add(new JournalEntry(record.getSequence(), line));
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading version history from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        synchronized (baseLock) {
+            baseSequence = jsonVersionHistory.map(JsonSerializableVersionHistory::getJournalSequence).orElse(0L);
+        }
+        savedChangeSets.clear();
+        savedChangeSets.addAll(versionHistory.getChangeSets());
+        savedVersionIndex = versionHistory.getCurrentVersionIndex();
+        savedDataFingerprint = versionHistory.getDataFingerprint();
+        sequence = readSequence;
+        journalEntries.clear();
+        journalEntries.addAll(readEntries);
+        isInSync = true;
+        return Optional.of(versionHistory);
+    }
+
+    /**
+     * Saves {@code versionHistory}, appending a single record to the journal if it differs from the last saved
+     * version history by one added version or by its version index only. The whole version history is
+     * rewritten otherwise.
+     */
+    @Override
+    public void saveVersionHistory(VersionHistory versionHistory) throws IOException {
+        requireNonNull(versionHistory);
+        if (writer == null) {
+            writeVersionHistory(versionHistory);
+            return;
+        }
+        VersionHistory versionHistoryCopy = versionHistory.copy();
+        writer.submit(() -> writeVersionHistory(versionHistoryCopy));
+    }
+
+    private synchronized void writeVersionHistory(VersionHistory versionHistory) throws IOException {
+        List<ChangeSet> changeSets = versionHistory.getChangeSets();
+        int versionIndex = versionHistory.getCurrentVersionIndex();
+        Long dataFingerprint = versionHistory.getDataFingerprint();
+
+        if (!isInSync) {
+            rewrite(versionHistory);
+        } else if (isSameChangeSets(changeSets, savedChangeSets)) {
+            if (versionIndex != savedVersionIndex || !Objects.equals(dataFingerprint, savedDataFingerprint)) {
+                append(JsonAdaptedJournalRecord.ofCursor(sequence + 1, versionIndex, dataFingerprint));
+            }
+        } else if (isNextVersion(versionHistory)) {
+            append(JsonAdaptedJournalRecord.ofVersion(sequence + 1, changeSets.get(changeSets.size() - 1),
+                    dataFingerprint));
+        } else {
+            rewrite(versionHistory);
+        }
+
+        savedChangeSets.clear();
+        savedChangeSets.addAll(changeSets);
+        savedVersionIndex = versionIndex;
+        savedDataFingerprint = dataFingerprint;
+        if (journalEntries.size() >= compactionThreshold && !isCompactionScheduled) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Waits for any scheduled compaction to finish.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+    /**
+     * Returns true if {@code versionHistory} is the last saved version history with one version added.
+     */
+    private boolean isNextVersion(VersionHistory versionHistory) {
+        List<ChangeSet> changeSets = versionHistory.getChangeSets();
+        if (changeSets.isEmpty()) {
+            return false;
+        }
+        VersionHistory expected = new VersionHistory();
+        expected.getChangeSets().addAll(savedChangeSets);
+        expected.setCurrentVersionIndex(savedVersionIndex);
+        expected.addChangeSet(changeSets.get(changeSets.size() - 1));
+        return expected.getCurrentVersionIndex() == versionHistory.getCurrentVersionIndex()
+                && isSameChangeSets(expected.getChangeSets(), changeSets);
+    }
+
+    /**
+     * Returns true if both lists hold the same change set objects in the same order.
+     * Saved change sets are never modified, so comparing identities is enough and avoids a deep comparison.
+     */
+    private static boolean isSameChangeSets(List<ChangeSet> first, List<ChangeSet> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(JsonAdaptedJournalRecord record) throws IOException {
+        String line = JsonUtil.toCompactJsonString(record);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.writeString(journalFilePath, line + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        sequence = record.getSequence();
+        journalEntries.add(new JournalEntry(sequence, line));
+    }
+
+    /**
+     * Replaces the json file with {@code versionHistory} and empties the journal.
+     */
+    private void rewrite(VersionHistory versionHistory) throws IOException {
+        if (!isInSync) {
+            // The journal may hold records newer than anything this storage has seen, so drop them first.
+            Files.deleteIfExists(journalFilePath);
+            journalEntries.clear();
+        }
+        sequence++;
+        synchronized (baseLock) {
+            writeBase(versionHistory, sequence);
+            baseSequence = sequence;
+        }
+        Files.deleteIfExists(journalFilePath);
+        journalEntries.clear();
+        isInSync = true;
+    }
+
+    private void scheduleCompaction() {
+        VersionHistory compacted = new VersionHistory();
+        compacted.getChangeSets().addAll(savedChangeSets);
+        compacted.setCurrentVersionIndex(savedVersionIndex);
+        compacted.setDataFingerprint(savedDataFingerprint);
+        long compactedSequence = sequence;
+        isCompactionScheduled = true;
+        compactor.execute(() -> compact(compacted, compactedSequence));
+    }
+
+    /**
+     * Writes {@code versionHistory}, which includes every journal record up to {@code compactedSequence},
+     * to the json file and drops those records from the journal.
+     */
+    private void compact(VersionHistory versionHistory, long compactedSequence) {
+        try {
+            synchronized (baseLock) {
+                if (compactedSequence > baseSequence) {
+                    writeBase(versionHistory, compactedSequence);
+                    baseSequence = compactedSequence;
+                }
+            }
+            synchronized (this) {
+                journalEntries.removeIf(entry -> entry.sequence() <= compactedSequence);
+                StringBuilder remaining = new StringBuilder();
+                journalEntries.forEach(entry -> remaining.append(entry.line()).append("\n"));
+                Path tempFile = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+                Files.writeString(tempFile, remaining.toString(), StandardCharsets.UTF_8);
+                move(tempFile, journalFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to compact version history journal: " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+        }
+    }
+
+    private void writeBase(VersionHistory versionHistory, long journalSequence) throws IOException {
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(tempFile);
+        JsonUtil.writeJsonStream(tempFile, generator ->
+                JsonSerializableVersionHistory.write(versionHistory, journalSequence, generator));
+        move(tempFile, filePath);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A record in the journal, with the line it was written as.
+     */
+    private record JournalEntry(long sequence, String line) {
+    }
+}
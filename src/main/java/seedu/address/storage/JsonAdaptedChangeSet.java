@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ListChange;
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of {@link ChangeSet}.
+ */
+class JsonAdaptedChangeSet {
+
+    private final List<JsonAdaptedListChange<JsonAdaptedPerson>> persons = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedGroup>> groups = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedTask>> tasks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeSet} with the given changes to persons, groups, and tasks.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeSet(@JsonProperty("persons") List<JsonAdaptedListChange<JsonAdaptedPerson>> persons,
+                                @JsonProperty("groups") List<JsonAdaptedListChange<JsonAdaptedGroup>> groups,
+                                @JsonProperty("tasks") List<JsonAdaptedListChange<JsonAdaptedTask>> tasks) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (groups != null) {
+            this.groups.addAll(groups);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+    }
+
+    /**
+     * Converts a given {@code ChangeSet} into this class for Jackson use.
+     */
+    public JsonAdaptedChangeSet(ChangeSet source) {
+        source.getStudentChanges().forEach(change ->
+            persons.add(new JsonAdaptedListChange<>(change, JsonAdaptedPerson::new)));
+        source.getGroupChanges().forEach(change ->
+            groups.add(new JsonAdaptedListChange<>(change, JsonAdaptedGroup::new)));
+        source.getTaskChanges().forEach(change ->
+            tasks.add(new JsonAdaptedListChange<>(change, JsonAdaptedTask::new)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change set into the model's {@code ChangeSet} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted changes.
+     */
+    public ChangeSet toModelType() throws IllegalValueException {
+        List<ListChange<Student>> studentChanges = new ArrayList<>();
+        for (JsonAdaptedListChange<JsonAdaptedPerson> change : persons) {
+            studentChanges.add(change.toModelType(JsonAdaptedPerson::toModelType));
+        }
+        List<ListChange<Group>> groupChanges = new ArrayList<>();
+        for (JsonAdaptedListChange<JsonAdaptedGroup> change : groups) {
+            groupChanges.add(change.toModelType(JsonAdaptedGroup::toModelType));
+        }
+        List<ListChange<Task>> taskChanges = new ArrayList<>();
+        for (JsonAdaptedListChange<JsonAdaptedTask> change : tasks) {
+            taskChanges.add(change.toModelType(JsonAdaptedTask::toModelType));
+        }
+        return new ChangeSet(studentChanges, groupChanges, taskChanges);
+    }
+
+}
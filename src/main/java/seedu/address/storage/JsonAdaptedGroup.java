@@ -2,36 +2,63 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
-import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.task.Task;
 
 /**
  * Jackson-friendly version of {@link Group}.
+ * Members are referred to by student number. Tasks are either embedded in full, or, in the normalized form written
+ * with an address book, referred to by task key with the status of the task in this group.
+ * Members embedded in full, as in older files, are read by their student numbers.
  */
 class JsonAdaptedGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Group refers to a student number that is not in the list "
+            + "of students.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedGroup.class);
 
     private final String groupName;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> students = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> studentNumbers = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedTaskStatus> taskStatuses = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedGroup} with the given group details.
      */
+    public JsonAdaptedGroup(String groupName, List<JsonAdaptedPerson> students, List<JsonAdaptedTask> tasks) {
+        this(groupName, students, tasks, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedGroup} with the given group details, including references.
+     */
     @JsonCreator
     public JsonAdaptedGroup(@JsonProperty("groupname") String groupName,
                             @JsonProperty("students") List<JsonAdaptedPerson> students,
-                            @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+                            @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                            @JsonProperty("studentNumbers") List<String> studentNumbers,
+                            @JsonProperty("taskStatuses") List<JsonAdaptedTaskStatus> taskStatuses) {
         this.groupName = groupName;
         if (students != null) {
             this.students.addAll(students);
@@ -39,6 +66,12 @@ class JsonAdaptedGroup {
         if (tasks != null) {
             this.tasks.addAll(tasks);
         }
+        if (studentNumbers != null) {
+            this.studentNumbers.addAll(studentNumbers);
+        }
+        if (taskStatuses != null) {
+            this.taskStatuses.addAll(taskStatuses);
+        }
     }
 
     /**
@@ -46,8 +79,8 @@ class JsonAdaptedGroup {
      */
     public JsonAdaptedGroup(Group source) {
         groupName = source.getGroupName().getGroupName();
-        students.addAll(source.getStudents().stream()
-            .map(JsonAdaptedPerson::new)
+        studentNumbers.addAll(source.getStudentNumbers().stream()
+            .map(StudentNumber::getStudentNumber)
             .toList());
         tasks.addAll(source.getTasks().stream()
             .map(JsonAdaptedTask::new)
@@ -55,20 +88,85 @@ class JsonAdaptedGroup {
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's {@code Group} object.
+     * Converts a given {@code Group} into this class for Jackson use, referring to every task whose
+     * {@link Task#getIdentityKey()} is in {@code listedTaskKeys} by its key.
+     */
+    public JsonAdaptedGroup(Group source, Set<List<Object>> listedTaskKeys) {
+        groupName = source.getGroupName().getGroupName();
+        studentNumbers.addAll(source.getStudentNumbers().stream()
+            .map(StudentNumber::getStudentNumber)
+            .toList());
+        for (Task task : source.getTasks()) {
+            if (listedTaskKeys.contains(task.getIdentityKey())) {
+                taskStatuses.add(new JsonAdaptedTaskStatus(task));
+            } else {
+                tasks.add(new JsonAdaptedTask(task));
+            }
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object.
+     * The members of the group are not checked against any list of students.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted student.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
      */
     public Group toModelType() throws IllegalValueException {
-        final List<Student> allStudents = new ArrayList<>();
+        return toModelType(null, Map.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object, checking that
+     * every member is in {@code listedStudents}, unless it is null, and resolving task keys in {@code tasks}, which
+     * holds the listed tasks by {@link Task#getIdentityKey()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
+     */
+    public Group toModelType(Set<StudentNumber> listedStudents, Map<List<Object>, Task> tasks)
+            throws IllegalValueException {
+        return toModelType(listedStudents, tasks, false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object, resolving task keys
+     * in {@code tasks}. Members that are not in {@code listedStudents}, unless it is null, are dropped with a warning
+     * if {@code dropsUnknownStudents}, as older files were saved without checking them, and rejected otherwise.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
+     */
+    public Group toModelType(Set<StudentNumber> listedStudents, Map<List<Object>, Task> tasks,
+                             boolean dropsUnknownStudents) throws IllegalValueException {
+        final Set<StudentNumber> modelStudentNumbers = new LinkedHashSet<>();
         for (JsonAdaptedPerson student : this.students) {
-            allStudents.add(student.toModelType());
+            modelStudentNumbers.add(student.toModelType().getStudentNumber());
+        }
+        for (String studentNumber : studentNumbers) {
+            if (!StudentNumber.isValidStudentNumber(studentNumber)) {
+                throw new IllegalValueException(StudentNumber.MESSAGE_CONSTRAINTS);
+            }
+            modelStudentNumbers.add(new StudentNumber(studentNumber));
+        }
+        if (listedStudents != null && !listedStudents.containsAll(modelStudentNumbers)) {
+            if (!dropsUnknownStudents) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_STUDENT);
+            }
+            modelStudentNumbers.removeIf(studentNumber -> {
+                boolean isUnknown = !listedStudents.contains(studentNumber);
+                if (isUnknown) {
+                    logger.warning("Dropping member " + studentNumber + " of group " + groupName
+                            + " that is not in the list of students");
+                }
+                return isUnknown;
+            });
         }
 
         final List<Task> allTasks = new ArrayList<>();
         for (JsonAdaptedTask task : this.tasks) {
             allTasks.add(task.toModelType());
         }
+        for (JsonAdaptedTaskStatus taskStatus : taskStatuses) {
+            allTasks.add(taskStatus.toModelType(tasks));
+        }
         if (groupName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 GroupName.class.getSimpleName()));
@@ -78,10 +176,8 @@ class JsonAdaptedGroup {
         }
         final GroupName modelGroupName = new GroupName(groupName);
 
-        final Set<Student> modelStudents = new HashSet<>(allStudents);
-
         final Set<Task> modelTasks = new HashSet<>(allTasks);
-        return new Group(modelGroupName, modelStudents, modelTasks);
+        return new Group(modelGroupName, modelStudentNumbers, modelTasks);
     }
 
 }
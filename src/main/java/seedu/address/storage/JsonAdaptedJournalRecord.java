@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.VersionHistory;
+
+/**
+ * Jackson-friendly version of a single entry in the version history journal.
+ * An entry either adds a new version, or moves the current version index after an undo or redo.
+ * Either way, it also holds the fingerprint of the data at the current version after the entry.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_EMPTY_RECORD = "Journal record has neither a change set nor a version index.";
+    public static final String MESSAGE_INVALID_VERSION_INDEX = "Journal record's version index is out of range.";
+
+    private final long sequence;
+    private final JsonAdaptedChangeSet changeSet;
+    private final Integer currentVersionIndex;
+    private final Long dataFingerprint;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+                                    @JsonProperty("changeSet") JsonAdaptedChangeSet changeSet,
+                                    @JsonProperty("currentVersionIndex") Integer currentVersionIndex,
+                                    @JsonProperty("dataFingerprint") Long dataFingerprint) {
+        this.sequence = sequence;
+        this.changeSet = changeSet;
+        this.currentVersionIndex = currentVersionIndex;
+        this.dataFingerprint = dataFingerprint;
+    }
+
+    /**
+     * Creates a record that adds {@code changeSet} as a new version, after which the data has the fingerprint
+     * {@code dataFingerprint}.
+     */
+    public static JsonAdaptedJournalRecord ofVersion(long sequence, ChangeSet changeSet, Long dataFingerprint) {
+        return new JsonAdaptedJournalRecord(sequence, new JsonAdaptedChangeSet(changeSet), null, dataFingerprint);
+    }
+
+    /**
+     * Creates a record that moves the current version index to {@code currentVersionIndex}, after which the data
+     * has the fingerprint {@code dataFingerprint}.
+     */
+    public static JsonAdaptedJournalRecord ofCursor(long sequence, int currentVersionIndex, Long dataFingerprint) {
+        return new JsonAdaptedJournalRecord(sequence, null, currentVersionIndex, dataFingerprint);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Replays this record on {@code versionHistory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(VersionHistory versionHistory) throws IllegalValueException {
+        if (changeSet != null) {
+            versionHistory.addChangeSet(changeSet.toModelType());
+            versionHistory.setDataFingerprint(dataFingerprint);
+            return;
+        }
+        if (currentVersionIndex == null) {
+            throw new IllegalValueException(MESSAGE_EMPTY_RECORD);
+        }
+        if (currentVersionIndex < -1 || currentVersionIndex > versionHistory.getChangeSets().size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_VERSION_INDEX);
+        }
+        versionHistory.setCurrentVersionIndex(currentVersionIndex);
+        versionHistory.setDataFingerprint(dataFingerprint);
+    }
+}
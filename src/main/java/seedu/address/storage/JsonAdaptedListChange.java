@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListChange;
+
+/**
+ * Jackson-friendly version of {@link ListChange}, holding Jackson-friendly elements of type {@code T}.
+ */
+class JsonAdaptedListChange<T> {
+
+    public static final String MESSAGE_INVALID_INDEX = "Recorded change has an invalid index!";
+
+    private final int index;
+    private final List<T> removed = new ArrayList<>();
+    private final List<T> inserted = new ArrayList<>();
+
+    /**
+     * Converts a Jackson-friendly element into its model type.
+     */
+    @FunctionalInterface
+    interface ElementConverter<T, M> {
+        M toModelType(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("index") int index,
+                                 @JsonProperty("removed") List<T> removed,
+                                 @JsonProperty("inserted") List<T> inserted) {
+        this.index = index;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListChange} into this class for Jackson use, adapting each element with
+     * {@code adapter}.
+     */
+    public <M> JsonAdaptedListChange(ListChange<M> source, Function<M, T> adapter) {
+        index = source.getIndex();
+        removed.addAll(source.getRemoved().stream().map(adapter).toList());
+        inserted.addAll(source.getInserted().stream().map(adapter).toList());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code ListChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted elements.
+     */
+    public <M> ListChange<M> toModelType(ElementConverter<T, M> converter) throws IllegalValueException {
+        if (index < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        List<M> modelRemoved = new ArrayList<>();
+        for (T element : removed) {
+            modelRemoved.add(converter.toModelType(element));
+        }
+        List<M> modelInserted = new ArrayList<>();
+        for (T element : inserted) {
+            modelInserted.add(converter.toModelType(element));
+        }
+        return new ListChange<>(index, modelRemoved, modelInserted);
+    }
+
+}
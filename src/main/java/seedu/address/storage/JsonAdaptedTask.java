@@ -75,8 +75,10 @@ class JsonAdaptedTask {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Status.class.getSimpleName()));
         }
-
-        final Status modelStatus = Status.valueOf(status);
+        if (!Status.isValidStatus(status)) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        final Status modelStatus = Status.valueOf(status.toUpperCase());
 
         if (groupsWithTask == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskName;
+
+/**
+ * Jackson-friendly reference from a group to one of its {@link Task}s.
+ * Holds the key of the task and the status of the task in that group only; the rest of the task is resolved
+ * from the address book's task list when loading.
+ */
+class JsonAdaptedTaskStatus {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group task's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TASK = "Group refers to a task that is not in the list of tasks.";
+
+    private final String taskName;
+    private final String deadline;
+    private final String status;
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskStatus} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedTaskStatus(@JsonProperty("taskname") String taskName,
+                                 @JsonProperty("deadline") String deadline,
+                                 @JsonProperty("status") String status) {
+        this.taskName = taskName;
+        this.deadline = deadline;
+        this.status = status;
+    }
+
+    /**
+     * Converts a given group's {@code Task} into this class for Jackson use.
+     */
+    public JsonAdaptedTaskStatus(Task source) {
+        taskName = source.getTaskName().toString();
+        deadline = source.getDeadline().deadlineInInputFormat();
+        status = source.getStatus().toString();
+    }
+
+    /**
+     * Converts this reference into a group's copy of the {@code Task} it refers to in {@code tasks}, which holds
+     * the listed tasks by {@link Task#getIdentityKey()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the reference, or if it refers
+     *     to a task that is not in {@code tasks}.
+     */
+    public Task toModelType(Map<List<Object>, Task> tasks) throws IllegalValueException {
+        if (taskName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    TaskName.class.getSimpleName()));
+        }
+        if (!TaskName.isValidName(taskName)) {
+            throw new IllegalValueException(TaskName.NAME_CONSTRAINT);
+        }
+        if (deadline == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Deadline.class.getSimpleName()));
+        }
+        if (!Deadline.isValidDeadline(deadline)) {
+            throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
+        }
+        if (status == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Status.class.getSimpleName()));
+        }
+        if (!Status.isValidStatus(status)) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        final TaskName modelTaskName = new TaskName(taskName);
+        final Deadline modelDeadline = new Deadline(LocalDateTime.parse(deadline, Deadline.DATETIME_FORMATTER));
+        final Status modelStatus = Status.valueOf(status.toUpperCase());
+
+        Task task = tasks.get(new Task(modelTaskName, modelDeadline).getIdentityKey());
+        if (task == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_TASK);
+        }
+        return new Task(modelTaskName, modelDeadline, modelStatus, task.getGroupsWithTask());
+    }
+}
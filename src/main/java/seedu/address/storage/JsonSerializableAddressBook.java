@@ -1,24 +1,37 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.task.Task;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * From schema version 2, groups refer to their members by student number and to the tasks in the list of tasks
+ * by task key, instead of embedding copies of them. Files in the embedded format of version 1 can still be read.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -26,24 +39,30 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Students list contains duplicate student(s).";
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA = "Data file was written by a newer version of "
+            + "T_Assistant.";
+    public static final int SCHEMA_VERSION = 2;
 
     private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final int schemaVersion;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons, groups, and tasks.
+     * A missing {@code schemaVersion} means the file is in the embedded format of version 1.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("groups") List<JsonAdaptedGroup> groups,
-                                       @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+                                       @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                                       @JsonProperty("schemaVersion") Integer schemaVersion) {
         this.persons.addAll(persons);
         this.groups.addAll(groups);
         this.tasks.addAll(tasks);
-
+        this.schemaVersion = schemaVersion == null ? 1 : schemaVersion;
     }
 
     /**
@@ -52,9 +71,71 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        Set<List<Object>> listedTaskKeys = getIdentityKeys(source.getTaskList());
         persons.addAll(source.getStudentList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
+        groups.addAll(source.getGroupList().stream()
+                .map(group -> new JsonAdaptedGroup(group, listedTaskKeys)).collect(Collectors.toList()));
         tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        schemaVersion = SCHEMA_VERSION;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one entry at a time
+     * instead of building the whole adapted address book first.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        Set<List<Object>> listedTaskKeys = getIdentityKeys(source.getTaskList());
+        generator.writeStartObject();
+        generator.writeNumberField("schemaVersion", SCHEMA_VERSION);
+        generator.writeArrayFieldStart("persons");
+        for (Student student : source.getStudentList()) {
+            generator.writeObject(new JsonAdaptedPerson(student));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("groups");
+        for (Group group : source.getGroupList()) {
+            generator.writeObject(new JsonAdaptedGroup(group, listedTaskKeys));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("tasks");
+        for (Task task : source.getTaskList()) {
+            generator.writeObject(new JsonAdaptedTask(task));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from {@code parser}, one entry at a time.
+     * Unknown fields are skipped.
+     */
+    public static JsonSerializableAddressBook read(JsonParser parser) throws IOException {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        Integer schemaVersion = null;
+        JsonUtil.startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                JsonUtil.readArray(parser, JsonAdaptedPerson.class, persons);
+                break;
+            case "groups":
+                JsonUtil.readArray(parser, JsonAdaptedGroup.class, groups);
+                break;
+            case "tasks":
+                JsonUtil.readArray(parser, JsonAdaptedTask.class, tasks);
+                break;
+            case "schemaVersion":
+                schemaVersion = parser.getValueAsInt();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonSerializableAddressBook(persons, groups, tasks, schemaVersion);
     }
 
     /**
@@ -63,35 +144,63 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Student student = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addStudent(student);
-            logger.info("Added student " + student.getName() + " to address book");
+        if (schemaVersion > SCHEMA_VERSION) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_SCHEMA);
+        }
+        List<Student> modelStudents = ParallelConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+        checkUnique(modelStudents, Student::getIdentityKey, MESSAGE_DUPLICATE_PERSON);
+        Set<StudentNumber> studentNumbers = new HashSet<>();
+        for (Student student : modelStudents) {
+            studentNumbers.add(student.getStudentNumber());
         }
 
+        // tasks are converted first so that groups can refer to them
+        List<Task> modelTasks = ParallelConverter.convertAll(tasks, JsonAdaptedTask::toModelType);
+        checkUnique(modelTasks, Task::getIdentityKey, MESSAGE_DUPLICATE_TASK);
+        Map<List<Object>, Task> tasksByKey = new HashMap<>();
+        for (Task task : modelTasks) {
+            tasksByKey.put(task.getIdentityKey(), task);
+        }
 
-        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            Group group = jsonAdaptedGroup.toModelType();
-            if (addressBook.hasGroup(group)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
-            }
-            addressBook.addGroup(group);
-            logger.info("Added group " + group.getGroupName() + " to address book");
+        // files of version 1 could be saved with members that are no longer in the list of students
+        boolean dropsUnknownStudents = schemaVersion == 1;
+        List<Group> modelGroups = ParallelConverter.convertAll(groups,
+                jsonAdaptedGroup -> jsonAdaptedGroup.toModelType(studentNumbers, tasksByKey, dropsUnknownStudents));
+        checkUnique(modelGroups, Group::getGroupName, MESSAGE_DUPLICATE_GROUP);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(modelStudents);
+        addressBook.setGroups(modelGroups);
+        addressBook.setTasks(modelTasks);
+        logger.info("Loaded " + modelStudents.size() + " students, " + modelGroups.size() + " groups and "
+                + modelTasks.size() + " tasks");
+        return addressBook;
+    }
+
+    /**
+     * Returns the identity keys of {@code tasks}, which groups refer to their listed tasks by.
+     * Tasks that differ only in the case of their names have the same key, as they do in the task list.
+     */
+    private static Set<List<Object>> getIdentityKeys(List<Task> tasks) {
+        Set<List<Object>> keys = new HashSet<>();
+        for (Task task : tasks) {
+            keys.add(task.getIdentityKey());
         }
+        return keys;
+    }
 
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (addressBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+    /**
+     * Throws an {@code IllegalValueException} with {@code message} if two of {@code elements} have the same key.
+     * Elements with the same key are the ones that the unique lists of the address book treat as the same.
+     */
+    private static <T> void checkUnique(List<T> elements, Function<T, Object> getKey, String message)
+            throws IllegalValueException {
+        Set<Object> keys = new HashSet<>();
+        for (T element : elements) {
+            if (!keys.add(getKey.apply(element))) {
+                throw new IllegalValueException(message);
             }
-            addressBook.addTask(task);
-            logger.info("Added task " + task.getTaskName() + " to address book");
         }
-        return addressBook;
     }
 
 }
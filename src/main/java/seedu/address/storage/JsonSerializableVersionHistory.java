@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,52 +8,132 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.AddressBook;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.VersionHistory;
 
 /**
- * An Immutable AddressBook that is serializable to JSON format.
+ * An Immutable VersionHistory that is serializable to JSON format.
  */
 @JsonRootName(value = "versionhistory")
 class JsonSerializableVersionHistory {
 
-    private final List<JsonSerializableAddressBook> addressBooks = new ArrayList<>();
+    public static final String MESSAGE_INVALID_VERSION_INDEX = "Current version index is out of range.";
+
+    private final List<JsonAdaptedChangeSet> changeSets = new ArrayList<>();
     private final int currentVersionIndex;
+    private final long journalSequence;
+    private final Long dataFingerprint;
 
     /**
-     * Constructs a {@code JsonSerializableVersionHistory} with the given persons.
+     * Constructs a {@code JsonSerializableVersionHistory} with the given change sets.
      */
     @JsonCreator
-    public JsonSerializableVersionHistory(@JsonProperty("addressBooks") List<JsonSerializableAddressBook> addressBooks,
-                                          @JsonProperty("currentVersionIndex") int currentVersionIndex) {
-        this.addressBooks.addAll(addressBooks);
+    public JsonSerializableVersionHistory(@JsonProperty("changeSets") List<JsonAdaptedChangeSet> changeSets,
+                                          @JsonProperty("currentVersionIndex") int currentVersionIndex,
+                                          @JsonProperty("journalSequence") long journalSequence,
+                                          @JsonProperty("dataFingerprint") Long dataFingerprint) {
+        if (changeSets != null) {
+            this.changeSets.addAll(changeSets);
+        }
         this.currentVersionIndex = currentVersionIndex;
-
+        this.journalSequence = journalSequence;
+        this.dataFingerprint = dataFingerprint;
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Converts a given {@code VersionHistory} into this class for Jackson use.
      *
-     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     * @param source future changes to this will not affect the created {@code JsonSerializableVersionHistory}.
      */
     public JsonSerializableVersionHistory(VersionHistory source) {
-        addressBooks.addAll(
-                source.getVersions().stream().map(JsonSerializableAddressBook::new).collect(Collectors.toList()));
+        changeSets.addAll(
+                source.getChangeSets().stream().map(JsonAdaptedChangeSet::new).collect(Collectors.toList()));
         this.currentVersionIndex = source.getCurrentVersionIndex();
+        this.journalSequence = 0;
+        this.dataFingerprint = source.getDataFingerprint();
+    }
+
+    /**
+     * Writes {@code source}, which includes every journal record up to {@code journalSequence}, to
+     * {@code generator} in the same format as this class, converting one change set at a time.
+     */
+    public static void write(VersionHistory source, long journalSequence, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("changeSets");
+        for (ChangeSet changeSet : source.getChangeSets()) {
+            generator.writeObject(new JsonAdaptedChangeSet(changeSet));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("currentVersionIndex", source.getCurrentVersionIndex());
+        generator.writeNumberField("journalSequence", journalSequence);
+        if (source.getDataFingerprint() != null) {
+            generator.writeNumberField("dataFingerprint", source.getDataFingerprint());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a {@code JsonSerializableVersionHistory} from {@code parser}, one change set at a time.
+     * Unknown fields are skipped.
+     */
+    public static JsonSerializableVersionHistory read(JsonParser parser) throws IOException {
+        List<JsonAdaptedChangeSet> changeSets = new ArrayList<>();
+        int currentVersionIndex = 0;
+        long journalSequence = 0;
+        Long dataFingerprint = null;
+        JsonUtil.startObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "changeSets":
+                JsonUtil.readArray(parser, JsonAdaptedChangeSet.class, changeSets);
+                break;
+            case "currentVersionIndex":
+                currentVersionIndex = parser.getValueAsInt();
+                break;
+            case "journalSequence":
+                journalSequence = parser.getValueAsLong();
+                break;
+            case "dataFingerprint":
+                dataFingerprint = parser.getValueAsLong();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonSerializableVersionHistory(changeSets, currentVersionIndex, journalSequence, dataFingerprint);
+    }
+
+    /**
+     * Returns the sequence number of the last journal record already included in this version history.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
-     * Converts this version history into addressbooks readable by the system.
+     * Converts this version history into change sets readable by the system.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
      */
     public VersionHistory toModelType() throws IllegalValueException {
+        if (currentVersionIndex < -1 || currentVersionIndex > changeSets.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_VERSION_INDEX);
+        }
         VersionHistory versionHistory = new VersionHistory();
-        for (JsonSerializableAddressBook jsonAddressBook : addressBooks) {
-            AddressBook addressBook = jsonAddressBook.toModelType();
-            versionHistory.getVersions().add(addressBook);
+        for (JsonAdaptedChangeSet jsonChangeSet : changeSets) {
+            versionHistory.getChangeSets().add(jsonChangeSet.toModelType());
         }
         versionHistory.setCurrentVersionIndex(currentVersionIndex);
+        versionHistory.setDataFingerprint(dataFingerprint);
         return versionHistory;
     }
 
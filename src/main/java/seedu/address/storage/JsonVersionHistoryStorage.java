@@ -8,6 +8,7 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.VersionHistory;
 
@@ -17,9 +18,19 @@ import seedu.address.model.VersionHistory;
 public class JsonVersionHistoryStorage implements VersionHistoryStorage {
 
     private Path filePath;
+    private final AsyncWriter writer;
 
     public JsonVersionHistoryStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that saves on the thread of {@code writer}, or synchronously if {@code writer} is null.
+     * Consecutive saves that have not been written yet are collapsed into one.
+     */
+    public JsonVersionHistoryStorage(Path filePath, AsyncWriter writer) {
         this.filePath = filePath;
+        this.writer = writer;
     }
 
     @Override
@@ -38,10 +49,13 @@ public class JsonVersionHistoryStorage implements VersionHistoryStorage {
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<VersionHistory> readVersionHistory(Path historyFilePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        requireNonNull(historyFilePath);
+        if (writer != null) {
+            writer.flush();
+        }
 
-        Optional<JsonSerializableVersionHistory> jsonVersionHistory = JsonUtil.readJsonFile(
-                filePath, JsonSerializableVersionHistory.class);
+        Optional<JsonSerializableVersionHistory> jsonVersionHistory = JsonUtil.readJsonStream(
+                historyFilePath, JsonSerializableVersionHistory::read);
         if (!jsonVersionHistory.isPresent()) {
             return Optional.empty();
         }
@@ -54,7 +68,18 @@ public class JsonVersionHistoryStorage implements VersionHistoryStorage {
 
     @Override
     public void saveVersionHistory(VersionHistory versionHistory) throws IOException {
-        JsonUtil.saveJsonFile(new JsonSerializableVersionHistory(versionHistory), filePath);
+        if (writer == null) {
+            writeVersionHistory(versionHistory);
+            return;
+        }
+        VersionHistory versionHistoryCopy = versionHistory.copy();
+        writer.submit(filePath, () -> writeVersionHistory(versionHistoryCopy));
+    }
+
+    private void writeVersionHistory(VersionHistory versionHistory) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.writeJsonStream(filePath, generator ->
+                JsonSerializableVersionHistory.write(versionHistory, 0, generator));
     }
 
 }
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts lists of Jackson-friendly adapted objects into model objects on the common fork/join pool.
+ * <p>
+ * The list is split in half until the halves are small enough to convert on one thread. The results keep the order
+ * of the list, and if several elements fail to convert, the exception of the first of them is thrown, so the outcome
+ * is the same as converting the elements one by one.
+ */
+class ParallelConverter {
+
+    /** Lists at most this long are converted on one thread, as splitting them costs more than it saves. */
+    static final int CHUNK_SIZE = 256;
+
+    /**
+     * Converts one adapted object into its model object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the model objects converted from {@code adapted}, in the same order.
+     *
+     * @throws IllegalValueException if any element fails to convert.
+     */
+    static <A, M> List<M> convertAll(List<A> adapted, Converter<A, M> converter) throws IllegalValueException {
+        ConversionTask<A, M> task = new ConversionTask<>(adapted, converter, 0, adapted.size());
+        Result<M> result = adapted.size() <= CHUNK_SIZE ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+        if (result.exception != null) {
+            throw result.exception;
+        }
+        return result.converted;
+    }
+
+    /**
+     * The model objects converted from part of a list, or the exception of the first element that failed.
+     */
+    private static class Result<M> {
+        private final List<M> converted;
+        private final IllegalValueException exception;
+
+        private Result(List<M> converted, IllegalValueException exception) {
+            this.converted = converted;
+            this.exception = exception;
+        }
+    }
+
+    private static class ConversionTask<A, M> extends RecursiveTask<Result<M>> {
+        private final List<A> adapted;
+        private final Converter<A, M> converter;
+        private final int from;
+        private final int to;
+
+        private ConversionTask(List<A> adapted, Converter<A, M> converter, int from, int to) {
+            this.adapted = adapted;
+            this.converter = converter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result<M> compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return convertChunk();
+            }
+            int middle = (from + to) >>> 1;
+            ConversionTask<A, M> right = new ConversionTask<>(adapted, converter, middle, to);
+            right.fork();
+            Result<M> leftResult = new ConversionTask<>(adapted, converter, from, middle).compute();
+            Result<M> rightResult = right.join();
+            if (leftResult.exception != null) {
+                return leftResult;
+            }
+            if (rightResult.exception != null) {
+                return rightResult;
+            }
+            leftResult.converted.addAll(rightResult.converted);
+            return leftResult;
+        }
+
+        private Result<M> convertChunk() {
+            List<M> converted = new ArrayList<>(to - from);
+            try {
+                for (A element : adapted.subList(from, to)) {
+                    converted.add(converter.convert(element));
+                }
+            } catch (IllegalValueException e) {
+                return new Result<>(null, e);
+            }
+            return new Result<>(converted, null);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.VersionHistory;
+
+/**
+ * Copies data between storages of different formats, e.g. from json files to binary files and back.
+ * Data is copied unless the storage it is copied to was saved more recently, so that switching formats back and
+ * forth always continues from the data saved last.
+ */
+public class StorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageConverter.class);
+
+    /**
+     * Copies the address book in {@code from} to {@code to} if {@code to} has no data file yet, or if its data
+     * file is older than that of {@code from}.
+     *
+     * @return true if an address book was copied.
+     * @throws DataLoadingException if the address book in {@code from} could not be loaded.
+     * @throws IOException if the address book could not be saved to {@code to}.
+     */
+    public static boolean convertAddressBook(AddressBookStorage from, AddressBookStorage to)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(from, to);
+        if (isUpToDate(List.of(to.getAddressBookFilePath()), List.of(from.getAddressBookFilePath()))) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = from.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        logger.info("Converting " + from.getAddressBookFilePath() + " to " + to.getAddressBookFilePath());
+        to.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Copies the version history in {@code from} to {@code to} if {@code to} has no data file yet, or if its data
+     * files are older than those of {@code from}.
+     *
+     * @return true if a version history was copied.
+     * @throws DataLoadingException if the version history in {@code from} could not be loaded.
+     * @throws IOException if the version history could not be saved to {@code to}.
+     */
+    public static boolean convertVersionHistory(VersionHistoryStorage from, VersionHistoryStorage to)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(from, to);
+        if (isUpToDate(to.getVersionHistoryFilePaths(), from.getVersionHistoryFilePaths())) {
+            return false;
+        }
+        Optional<VersionHistory> versionHistory = from.readVersionHistory();
+        if (!versionHistory.isPresent()) {
+            return false;
+        }
+        logger.info("Converting " + from.getVersionHistoryFilePath() + " to " + to.getVersionHistoryFilePath());
+        to.saveVersionHistory(versionHistory.get());
+        return true;
+    }
+
+    /**
+     * Returns true if any of {@code targetFiles} exists and was modified no earlier than every existing file of
+     * {@code sourceFiles}.
+     */
+    private static boolean isUpToDate(List<Path> targetFiles, List<Path> sourceFiles) throws IOException {
+        Optional<FileTime> targetTime = getLastModifiedTime(targetFiles);
+        Optional<FileTime> sourceTime = getLastModifiedTime(sourceFiles);
+        return targetTime.isPresent() && (sourceTime.isEmpty() || targetTime.get().compareTo(sourceTime.get()) >= 0);
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(List<Path> files) throws IOException {
+        Optional<FileTime> lastModifiedTime = Optional.empty();
+        for (Path file : files) {
+            if (Files.exists(file)) {
+                FileTime fileTime = Files.getLastModifiedTime(file);
+                if (lastModifiedTime.isEmpty() || fileTime.compareTo(lastModifiedTime.get()) > 0) {
+                    lastModifiedTime = Optional.of(fileTime);
+                }
+            }
+        }
+        return lastModifiedTime;
+    }
+}
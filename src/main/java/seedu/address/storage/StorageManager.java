@@ -7,6 +7,8 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,13 +21,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AsyncWriter writer;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves on the thread of {@code writer}, or synchronously if {@code writer} is null.
+     * Save failures are then reported to the error handler of {@code writer} instead of being thrown.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AsyncWriter writer) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = writer;
     }
 
     // ================ UserPrefs methods ==============================
@@ -42,7 +57,12 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        userPrefsStorage.saveUserPrefs(userPrefs);
+        if (writer == null) {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+            return;
+        }
+        UserPrefs userPrefsCopy = new UserPrefs(userPrefs);
+        writer.submit(userPrefsStorage.getUserPrefsFilePath(), () -> userPrefsStorage.saveUserPrefs(userPrefsCopy));
     }
 
 
@@ -61,6 +81,9 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        if (writer != null) {
+            writer.flush();
+        }
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -72,7 +95,15 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (writer == null) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        // a snapshot never changes, anything else is copied before it is handed to the writer thread
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBook(addressBook).snapshot();
+        writer.submit(filePath, () -> addressBookStorage.saveAddressBook(snapshot, filePath));
     }
 
 }
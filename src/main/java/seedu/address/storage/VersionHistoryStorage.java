@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -17,6 +18,13 @@ public interface VersionHistoryStorage {
      */
     Path getVersionHistoryFilePath();
 
+    /**
+     * Returns the paths of all the files that the VersionHistory is stored in.
+     */
+    default List<Path> getVersionHistoryFilePaths() {
+        return List.of(getVersionHistoryFilePath());
+    }
+
     /**
      * Returns VersionHistory data from storage.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -2,6 +2,10 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,6 +14,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.State;
@@ -33,6 +38,8 @@ public class MainWindow extends UiPart<Stage> {
     private static final State DEFAULT_GROUP_TASK = new State("GroupTask");
     private static final State DEFAULT_TASK = new State("Tasks");
     private static final String FXML = "MainWindow.fxml";
+    /** Deadlines are given to the minute, so checking twice a minute shows tasks becoming overdue promptly. */
+    private static final Duration STATUS_CHECK_INTERVAL = Duration.seconds(30);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -124,9 +131,9 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         logic.setStatus();
         studentListPanel = new StudentListPanel(logic.getFilteredPersonList());
-        groupListPanel = new GroupListPanel(logic.getFilteredGroupList());
+        groupListPanel = new GroupListPanel(logic.getFilteredGroupList(), logic::getPersonsInGroup);
         groupTaskPanel = new GroupTaskPanel(logic.getFilteredGroupList());
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic.getFilteredGroupList());
+        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic::getGroupsWithTask);
         if (this.logic.getState().equals(DEFAULT_STUDENT)) {
             informationListPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
         } else if (this.logic.getState().equals(DEFAULT_GROUP_TASK)) {
@@ -142,12 +149,25 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        Timeline statusTimer = new Timeline(new KeyFrame(STATUS_CHECK_INTERVAL, event -> handleStatusCheck()));
+        statusTimer.setCycleCount(Animation.INDEFINITE);
+        statusTimer.play();
+    }
+
+    /**
+     * Marks the tasks whose deadlines have passed as overdue. The panels redraw the rows of those tasks themselves.
+     * Runs on the JavaFX application thread, like commands, so it never runs in the middle of a command.
+     */
+    private void handleStatusCheck() {
+        logic.setStatus();
     }
 
     /**
@@ -227,10 +247,8 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            studentListPanel = new StudentListPanel(logic.getFilteredPersonList());
-            groupListPanel = new GroupListPanel(logic.getFilteredGroupList());
-            groupTaskPanel = new GroupTaskPanel(logic.getFilteredGroupList());
-            taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic.getFilteredGroupList());
+            // the panels observe the model's lists and redraw the rows that changed, so only the one shown changes
+            informationListPanelPlaceholder.getChildren().clear();
             if (this.logic.getState().equals(DEFAULT_STUDENT)) {
                 informationListPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
             } else if (this.logic.getState().equals(DEFAULT_GROUP_TASK)) {
@@ -1,5 +1,8 @@
 package seedu.address.ui.cards;
 
+import java.util.List;
+import java.util.function.Function;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -37,9 +40,10 @@ public class GroupCard extends UiPart<Region> {
     private Label students;
 
     /**
-     * Creates a {@code GroupCode} with the given {@code Group} and index to display.
+     * Creates a {@code GroupCard} with the given {@code Group} and index to display.
+     * The members of the group are looked up with {@code studentsInGroup}.
      */
-    public GroupCard(Group group, int displayedIndex) {
+    public GroupCard(Function<Group, List<Student>> studentsInGroup, Group group, int displayedIndex) {
         super(FXML);
         this.group = group;
         id.setText(displayedIndex + ". ");
@@ -47,12 +51,12 @@ public class GroupCard extends UiPart<Region> {
         name.setText(group.getGroupName().getGroupName());
         name.setWrapText(true);
         String studentList = "";
-        for (Student student : group.getStudents()) {
+        for (Student student : studentsInGroup.apply(group)) {
             studentList += student.toDisplayString();
             studentList += "\n";
         }
 
-        if (group.getStudents().size() == 0) {
+        if (!group.hasStudents()) {
             students.setText(NO_STUDENTS_YET);
         } else {
             students.setText(studentList);
@@ -2,8 +2,9 @@ package seedu.address.ui.cards;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.function.BiFunction;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -42,9 +43,10 @@ public class TaskCard extends UiPart<Region> {
     private Label groups;
 
     /**
-     * Creates a {@code GroupCode} with the given {@code Group} and index to display.
+     * Creates a {@code TaskCard} with the given {@code Task} and index to display.
+     * The groups holding the task with each status are looked up with {@code groupsWithTask}.
      */
-    public TaskCard(ObservableList<Group> groupList, Task task, int displayedIndex) {
+    public TaskCard(BiFunction<Task, Status, List<Group>> groupsWithTask, Task task, int displayedIndex) {
         super(FXML);
         this.task = task;
         id.setText(displayedIndex + ". ");
@@ -54,53 +56,19 @@ public class TaskCard extends UiPart<Region> {
         deadline.setText("Deadline: " + task.getDeadline().toString());
         ZoneId zid = ZoneId.of("Asia/Singapore");
         LocalDateTime currentTime = LocalDateTime.now(zid);
+        String groupsComplete = listGroups("Complete Groups:", groupsWithTask.apply(task, Status.COMPLETED));
         if (task.getDeadline().getTime().isBefore(currentTime)) {
-            String groupsOverdue = "Overdue Groups:";
-            String groupsComplete = "Complete Groups:";
-            ObservableList<Group> completeGroupList = groupList;
-            try {
-                groupsOverdue = groupList.stream()
-                    .filter(x -> x.getTasks().stream().filter(y -> y.equals(task))
-                    .filter(c -> c.getStatus().equals(Status.OVERDUE)).count() > 0)
-                    .map(z -> z.getGroupName().getGroupName())
-                    .reduce(groupsOverdue, (a, b) -> a + "\n" + b);
-            } catch (IndexOutOfBoundsException ioe) {
-                groupsOverdue = "Overdue Groups:";
-            }
-            try {
-                groupsComplete = completeGroupList.stream()
-                    .filter(x -> x.getTasks().stream().filter(y -> y.equals(task))
-                    .filter(c -> c.getStatus().equals(Status.COMPLETED)).count() > 0)
-                    .map(z -> z.getGroupName().getGroupName())
-                    .reduce(groupsComplete, (a, b) -> a + "\n" + b);
-            } catch (IndexOutOfBoundsException ioe) {
-                groupsComplete = "Complete Groups:";
-            }
+            String groupsOverdue = listGroups("Overdue Groups:", groupsWithTask.apply(task, Status.OVERDUE));
             groups.setText(groupsOverdue + "\n" + "\n" + groupsComplete);
         } else {
-            String groupsPending = "Pending Groups:";
-            String groupsComplete = "Complete Groups:";
-            ObservableList<Group> completeGroupList = groupList;
-            try {
-                groupsPending = groupList.stream()
-                    .filter(x -> x.getTasks().stream().filter(y -> y.equals(task))
-                    .filter(c -> c.getStatus().equals(Status.PENDING)).count() > 0)
-                    .map(z -> z.getGroupName().getGroupName())
-                    .reduce(groupsPending, (a, b) -> a + "\n" + b);
-            } catch (IndexOutOfBoundsException ioe) {
-                groupsPending = "Pending Groups:";
-            }
-            try {
-                groupsComplete = completeGroupList.stream()
-                    .filter(x -> x.getTasks().stream().filter(y -> y.equals(task))
-                    .filter(c -> c.getStatus().equals(Status.COMPLETED)).count() > 0)
-                    .map(z -> z.getGroupName().getGroupName())
-                    .reduce(groupsComplete, (a, b) -> a + "\n" + b);
-            } catch (IndexOutOfBoundsException ioe) {
-                groupsComplete = "Complete Groups:";
-            }
+            String groupsPending = listGroups("Pending Groups:", groupsWithTask.apply(task, Status.PENDING));
             groups.setText(groupsPending + "\n" + "\n" + groupsComplete);
         }
+    }
 
+    private static String listGroups(String header, List<Group> groupList) {
+        return groupList.stream()
+            .map(group -> group.getGroupName().getGroupName())
+            .reduce(header, (a, b) -> a + "\n" + b);
     }
 }
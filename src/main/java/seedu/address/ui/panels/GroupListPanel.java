@@ -1,5 +1,7 @@
 package seedu.address.ui.panels;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +12,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.group.Group;
+import seedu.address.model.student.Student;
 import seedu.address.ui.UiPart;
 import seedu.address.ui.cards.GroupCard;
 
@@ -20,6 +23,8 @@ public class GroupListPanel extends UiPart<Region> {
     private static final String FXML = "GroupListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(GroupListPanel.class);
 
+    private final Function<Group, List<Student>> studentsInGroup;
+
     @FXML
     private ListView<Group> groupListView;
 
@@ -29,8 +34,9 @@ public class GroupListPanel extends UiPart<Region> {
     /**
      * Creates a {@code GroupListPanel} with the given {@code ObservableList}.
      */
-    public GroupListPanel(ObservableList<Group> groupList) {
+    public GroupListPanel(ObservableList<Group> groupList, Function<Group, List<Student>> studentsInGroup) {
         super(FXML);
+        this.studentsInGroup = studentsInGroup;
         groupListView.setItems(groupList);
         groupListView.setCellFactory(listView -> new GroupListViewCell());
     }
@@ -47,7 +53,7 @@ public class GroupListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GroupCard(group, getIndex() + 1).getRoot());
+                setGraphic(new GroupCard(studentsInGroup, group, getIndex() + 1).getRoot());
             }
         }
     }
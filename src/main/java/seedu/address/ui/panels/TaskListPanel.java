@@ -1,5 +1,7 @@
 package seedu.address.ui.panels;
 
+import java.util.List;
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +12,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.group.Group;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
 import seedu.address.ui.UiPart;
 import seedu.address.ui.cards.TaskCard;
@@ -21,7 +24,7 @@ public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
 
-    private ObservableList<Group> groupList;
+    private final BiFunction<Task, Status, List<Group>> groupsWithTask;
 
     @FXML
     private ListView<Task> taskListView;
@@ -32,11 +35,11 @@ public class TaskListPanel extends UiPart<Region> {
     /**
      *   Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
-    public TaskListPanel(ObservableList<Task> taskList, ObservableList<Group> groupList) {
+    public TaskListPanel(ObservableList<Task> taskList, BiFunction<Task, Status, List<Group>> groupsWithTask) {
         super(FXML);
+        this.groupsWithTask = groupsWithTask;
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
-        this.groupList = groupList;
     }
 
     /**
@@ -51,7 +54,7 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(groupList, task, getIndex() + 1).getRoot());
+                setGraphic(new TaskCard(groupsWithTask, task, getIndex() + 1).getRoot());
             }
         }
     }
@@ -0,0 +1,117 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_STUDENT_NO_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STUDENT_NUMBER_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.addcommands.AddGroupCommand;
+import seedu.address.logic.commands.addcommands.AddStudentCommand;
+import seedu.address.logic.commands.listcommands.ListGroupCommand;
+import seedu.address.logic.commands.listcommands.ListStudentCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonVersionHistoryStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY_COMMAND = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY
+        + STUDENT_NUMBER_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+            new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonVersionHistoryStorage versionHistoryStorage =
+            new JsonVersionHistoryStorage(temporaryFolder.resolve("versionhistory.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, versionHistoryStorage);
+    }
+
+    @Test
+    public void run_commandsUntilExit_printsFeedbackAndLists() throws IOException {
+        HeadlessApp app = createApp(false, ADD_AMY_COMMAND, "", ListStudentCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, "clear");
+
+        assertTrue(app.run());
+        String amy = Messages.format(model.getAddressBook().getStudentList().get(0));
+        assertEquals(List.of(
+            String.format(AddStudentCommand.MESSAGE_SUCCESS, amy),
+            "1. " + amy,
+            ListStudentCommand.MESSAGE_SUCCESS,
+            "1. " + amy,
+            ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutputLines());
+        // the command after exit is not run
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void run_failingCommand_reportsFailureAndContinues() throws IOException {
+        HeadlessApp app = createApp(false, "ds sno/A0000001A", ListStudentCommand.COMMAND_WORD);
+
+        assertFalse(app.run());
+        assertEquals(List.of(
+            MESSAGE_STUDENT_NO_NOT_FOUND,
+            ListStudentCommand.MESSAGE_SUCCESS,
+            HeadlessApp.MESSAGE_EMPTY_LIST), getOutputLines());
+    }
+
+    @Test
+    public void run_listGroups_printsAllGroups() throws IOException {
+        HeadlessApp app = createApp(false, AddGroupCommand.COMMAND_WORD + " gn/CS2103-F12-2",
+            ListGroupCommand.COMMAND_WORD);
+
+        assertTrue(app.run());
+        List<String> outputLines = getOutputLines();
+        assertEquals(List.of(ListGroupCommand.MESSAGE_SUCCESS, "1. CS2103-F12-2; Members: "),
+            outputLines.subList(outputLines.size() - 2, outputLines.size()));
+    }
+
+    @Test
+    public void run_interactive_printsPromptBeforeEachCommand() throws IOException {
+        HeadlessApp app = createApp(true, ExitCommand.COMMAND_WORD);
+
+        assertTrue(app.run());
+        assertEquals(List.of(HeadlessApp.PROMPT + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutputLines());
+    }
+
+    private HeadlessApp createApp(boolean isInteractive, String... commands) {
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", commands)));
+        return new HeadlessApp(logic, input, new PrintStream(output, true), isInteractive);
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString().lines().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_keepsOrder() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2, 3, 4, 5));
+        assertEquals(List.of(1, 2, 3, 4, 5), list.asList());
+        assertEquals(5, list.size());
+        assertEquals(3, (int) list.get(2));
+        assertTrue(PersistentList.of(List.of()).isEmpty());
+    }
+
+    @Test
+    public void modifications_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> removed = original.remove(0);
+        PersistentList<String> set = original.set(2, "z");
+
+        assertEquals(List.of("a", "b", "c"), original.asList());
+        assertEquals(List.of("a", "x", "b", "c"), added.asList());
+        assertEquals(List.of("b", "c"), removed.asList());
+        assertEquals(List.of("a", "b", "z"), set.asList());
+    }
+
+    @Test
+    public void replaceRange_matchesArrayList() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b", "c", "d"));
+
+        assertEquals(List.of("a", "x", "d"), list.replaceRange(1, 2, List.of("x")).asList());
+        assertEquals(List.of("a", "x", "y", "z", "b", "c", "d"),
+            list.replaceRange(1, 0, List.of("x", "y", "z")).asList());
+        assertEquals(List.of("q"), list.replaceRange(0, 4, List.of("q")).asList());
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+        assertEquals(expected, actual.asList());
+        assertEquals(expected, new ArrayList<>(actual.asList()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, "b"));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        assertEquals(list, PersistentList.<String>empty().add(0, "b").add(0, "a"));
+        assertEquals(list.hashCode(), List.of("a", "b").hashCode());
+    }
+}
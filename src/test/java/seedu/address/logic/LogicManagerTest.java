@@ -4,27 +4,39 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_STUDENT_NO_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.STUDENT_NUMBER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STUDENT_NUMBER_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.addcommands.AddStudentCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.listcommands.ListStudentCommand;
+import seedu.address.logic.commands.versionhistorycommands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionHistory;
+import seedu.address.model.exceptions.UndoLimitException;
 import seedu.address.model.student.Student;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -77,6 +89,127 @@ public class LogicManagerTest {
             LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotUsed() throws Exception {
+        // Inject LogicManager with storages that fail on every save
+        JsonAddressBookStorage addressBookStorage =
+            new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                @Override
+                public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonVersionHistoryStorage versionHistoryStorage =
+            new JsonVersionHistoryStorage(temporaryFolder.resolve("versionhistory.json")) {
+                @Override
+                public void saveVersionHistory(VersionHistory versionHistory) throws IOException {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage),
+            versionHistoryStorage);
+
+        assertCommandSuccess(ListStudentCommand.COMMAND_WORD, ListStudentCommand.MESSAGE_SUCCESS,
+            new ModelManager(model.getAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_undoWithSavedVersionHistory_undoesPreviousSession() throws Exception {
+        // a previous session added AMY and saved its version history
+        ModelManager previousModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        VersionHistory savedVersionHistory = new VersionHistory();
+        savedVersionHistory.addVersion(previousModel);
+        previousModel.addPerson(AMY);
+        savedVersionHistory.addVersion(previousModel);
+        savedVersionHistory.setCurrentData(previousModel.getAddressBookSnapshot());
+        JsonVersionHistoryStorage versionHistoryStorage =
+            new JsonVersionHistoryStorage(temporaryFolder.resolve("versionhistory.json"));
+        versionHistoryStorage.saveVersionHistory(savedVersionHistory);
+
+        model = new ModelManager(previousModel.getAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+            new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, versionHistoryStorage, true);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_undoWithVersionHistoryOfOtherData_historyDiscarded() throws Exception {
+        // a previous session added AMY, but the data file was edited afterwards to hold only the typical students
+        ModelManager previousModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        VersionHistory savedVersionHistory = new VersionHistory();
+        savedVersionHistory.addVersion(previousModel);
+        previousModel.addPerson(AMY);
+        savedVersionHistory.addVersion(previousModel);
+        savedVersionHistory.setCurrentData(previousModel.getAddressBookSnapshot());
+        JsonVersionHistoryStorage versionHistoryStorage =
+            new JsonVersionHistoryStorage(temporaryFolder.resolve("versionhistory.json"));
+        versionHistoryStorage.saveVersionHistory(savedVersionHistory);
+
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+            new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, versionHistoryStorage, true);
+
+        assertCommandException(UndoCommand.COMMAND_WORD, new UndoLimitException().getMessage());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_versionHistoryLoadingFailsUnexpectedly_commandsStillRecorded() throws Exception {
+        JsonVersionHistoryStorage versionHistoryStorage =
+            new JsonVersionHistoryStorage(temporaryFolder.resolve("versionhistory.json")) {
+                @Override
+                public Optional<VersionHistory> readVersionHistory() {
+                    throw new IllegalArgumentException("No enum constant");
+                }
+            };
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+            new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, versionHistoryStorage, true);
+
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + STUDENT_NUMBER_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertCommandException(UndoCommand.COMMAND_WORD, new UndoLimitException().getMessage());
+    }
+
+    @Test
+    public void execute_scriptWithFailingLine_noCommandTakesEffect() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + STUDENT_NUMBER_DESC_AMY;
+        String deleteCommand = "ds sno/A0000001A";
+        Files.write(script, List.of("# adds Amy, then fails", addCommand, deleteCommand));
+
+        assertCommandException(RunCommand.COMMAND_WORD + " " + script,
+            String.format(RunCommand.MESSAGE_LINE_FAILED, 3, deleteCommand, MESSAGE_STUDENT_NO_NOT_FOUND));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_script_undoneAsOneCommand() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(
+            AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + STUDENT_NUMBER_DESC_AMY,
+            "",
+            AddStudentCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB + STUDENT_NUMBER_DESC_BOB));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script),
+            logic.execute(RunCommand.COMMAND_WORD + " " + script).getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getStudentList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getStudentList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
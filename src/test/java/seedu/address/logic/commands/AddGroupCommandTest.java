@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -22,6 +23,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.addcommands.AddGroupCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,8 +31,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentMatchesQueryPredicate;
 import seedu.address.model.student.StudentNumber;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddGroupCommandTest {
@@ -114,7 +119,7 @@ public class AddGroupCommandTest {
     private class ModelStub implements Model {
 
         @Override
-        public void setStatus() {
+        public boolean setStatus() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -203,6 +208,41 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeSet takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyChanges(ChangeSet changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void revertChanges(ChangeSet changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -258,6 +298,36 @@ public class AddGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Student> getPersonsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Student> searchPersons(StudentMatchesQueryPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Task> searchTasks(TaskNameContainsKeywordsPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Group> getGroupsWithTask(Task task, Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Group> getGroupsWithTask(Task task) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
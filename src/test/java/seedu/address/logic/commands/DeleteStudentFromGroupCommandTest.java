@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.State;
 import seedu.address.logic.commands.deletecommands.DeleteStudentFromGroupCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -25,8 +28,11 @@ import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentMatchesQueryPredicate;
 import seedu.address.model.student.StudentNumber;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -92,7 +98,7 @@ public class DeleteStudentFromGroupCommandTest {
 
     private class ModelStub implements Model {
         @Override
-        public void setStatus() {
+        public boolean setStatus() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -166,6 +172,41 @@ public class DeleteStudentFromGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeSet takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyChanges(ChangeSet changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void revertChanges(ChangeSet changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -236,6 +277,36 @@ public class DeleteStudentFromGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Student> getPersonsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Student> searchPersons(StudentMatchesQueryPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Task> searchTasks(TaskNameContainsKeywordsPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Group> getGroupsWithTask(Task task, Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Group> getGroupsWithTask(Task task) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -372,7 +443,7 @@ public class DeleteStudentFromGroupCommandTest {
         private final ArrayList<Student> students = new ArrayList<Student>();
 
         ModelStubDeleteStudentFromGroup() {
-            validGroup.add(validStudent);
+            validGroup.add(validStudent.getStudentNumber());
             this.groups.add(validGroup);
             this.students.add(validStudent);
         }
@@ -384,7 +455,7 @@ public class DeleteStudentFromGroupCommandTest {
 
         @Override
         public void deleteStudentFromGroup(Group group, Student student) {
-            group.delete(student);
+            group.delete(student.getStudentNumber());
         }
 
         @Override
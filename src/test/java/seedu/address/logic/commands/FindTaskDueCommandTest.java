@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.TASK_COMPLETED;
+import static seedu.address.testutil.TypicalTasks.TASK_PENDING;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.findcommands.FindTaskDueCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Task;
+
+public class FindTaskDueCommandTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 9, 16, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 9, 30, 0, 0);
+
+    @Test
+    public void equals() {
+        FindTaskDueCommand periodCommand = new FindTaskDueCommand(FROM, TO);
+        FindTaskDueCommand daysCommand = new FindTaskDueCommand(7);
+
+        assertEquals(periodCommand, periodCommand);
+        assertEquals(periodCommand, new FindTaskDueCommand(FROM, TO));
+        assertEquals(daysCommand, new FindTaskDueCommand(7));
+        assertNotEquals(periodCommand, daysCommand);
+        assertNotEquals(daysCommand, new FindTaskDueCommand(8));
+        assertNotEquals(null, periodCommand);
+    }
+
+    @Test
+    public void execute_noTasksDue_noTaskFound() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+        assertCommandSuccess(new FindTaskDueCommand(from, to), model, String.format(
+            FindTaskDueCommand.MESSAGE_NO_TASKS_DUE, new Deadline(from), new Deadline(to)), expectedModel);
+        assertEquals(model.getAddressBook().getTaskList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksDue_listsGroupsNotCompleted() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-4")));
+        addressBook.addTaskToGroup(new Task(TASK_PENDING), addressBook.getGroupList().get(0));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(FindTaskDueCommand.MESSAGE_TASKS_DUE, 1, new Deadline(FROM),
+            new Deadline(TO)) + "\n" + Messages.format(TASK_PENDING) + FindTaskDueCommand.MESSAGE_NOT_COMPLETED_BY
+            + "CS2103-F12-4";
+        assertCommandSuccess(new FindTaskDueCommand(FROM, TO), model, expectedMessage, expectedModel);
+        // the displayed task list is left as it is
+        assertEquals(List.of(TASK_COMPLETED, TASK_PENDING), model.getFilteredTaskList());
+
+        // a period covering both tasks lists them in order of deadline
+        LocalDateTime from = LocalDateTime.of(2024, 9, 1, 0, 0);
+        assertEquals(List.of(TASK_COMPLETED, TASK_PENDING), model.getTasksDueBetween(from, TO));
+    }
+}
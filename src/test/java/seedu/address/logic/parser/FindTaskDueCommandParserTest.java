@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK_DEADLINE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.findcommands.FindTaskDueCommand;
+import seedu.address.logic.parser.findcommands.FindTaskDueCommandParser;
+
+public class FindTaskDueCommandParserTest {
+
+    private FindTaskDueCommandParser parser = new FindTaskDueCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            FindTaskDueCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_days_returnsFindTaskDueCommand() {
+        assertParseSuccess(parser, " 7", new FindTaskDueCommand(7));
+        assertParseSuccess(parser, " 0", new FindTaskDueCommand(0));
+        assertParseFailure(parser, " -1", FindTaskDueCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " 36501", FindTaskDueCommandParser.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_period_returnsFindTaskDueCommand() {
+        assertParseSuccess(parser, " " + PREFIX_TASK_DEADLINE + "2024-10-14 0000 " + PREFIX_TASK_DEADLINE
+            + "2024-10-20 2359", new FindTaskDueCommand(LocalDateTime.of(2024, 10, 14, 0, 0),
+            LocalDateTime.of(2024, 10, 20, 23, 59)));
+        assertParseFailure(parser, " " + PREFIX_TASK_DEADLINE + "2024-10-20 2359 " + PREFIX_TASK_DEADLINE
+            + "2024-10-14 0000", FindTaskDueCommandParser.MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " " + PREFIX_TASK_DEADLINE + "2024-10-20 2359", String.format(
+            MESSAGE_INVALID_COMMAND_FORMAT, FindTaskDueCommand.MESSAGE_USAGE));
+    }
+}
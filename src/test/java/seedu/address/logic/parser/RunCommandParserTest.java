@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.ScriptLine;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + script, String.format(RunCommandParser.MESSAGE_CANNOT_READ, script));
+    }
+
+    @Test
+    public void parse_validScript_skipsBlankLinesAndComments() throws IOException, ParseException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of("# start afresh", "", "  clear  "));
+
+        RunCommand expectedCommand = new RunCommand(script, List.of(new ScriptLine(3, "clear", new ClearCommand())));
+        assertEquals(expectedCommand, parser.parse(" " + script));
+    }
+
+    @Test
+    public void parse_invalidLines_listsEveryInvalidLine() throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of("clear", "unknown", "undo"));
+
+        String expectedMessage = String.format(RunCommandParser.MESSAGE_INVALID_LINES, 2)
+            + "\n" + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2, "unknown", MESSAGE_UNKNOWN_COMMAND)
+            + "\n" + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 3, "undo",
+                RunCommandParser.MESSAGE_NOT_IN_SCRIPT);
+        assertParseFailure(parser, " " + script, expectedMessage);
+    }
+}
@@ -7,22 +7,31 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.TASK_PENDING;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.exceptions.DuplicatePersonException;
+import seedu.address.model.task.Status;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskName;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class AddressBookTest {
 
@@ -103,6 +112,233 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addStudent(ALICE);
+        addressBook.addGroup(new Group(DUMMY_GROUP));
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        Group group = addressBook.findGroupByName(DUMMY_GROUP.getGroupName());
+        addressBook.addStudentToGroup(ALICE, group);
+        addressBook.addTaskToGroup(TASK_PENDING, group);
+        addressBook.addTask(TASK_PENDING);
+
+        assertEquals(List.of(ALICE), snapshot.getStudentList());
+        assertFalse(snapshot.getStudentList().get(0).getGroupName().isPresent());
+        assertTrue(snapshot.getGroupList().get(0).getStudentNumbers().isEmpty());
+        assertTrue(snapshot.getGroupList().get(0).getTasks().isEmpty());
+        assertTrue(snapshot.getTaskList().isEmpty());
+
+        ReadOnlyAddressBook laterSnapshot = addressBook.snapshot();
+        assertEquals(addressBook.getStudentList(), laterSnapshot.getStudentList());
+        assertEquals(addressBook.getGroupList(), laterSnapshot.getGroupList());
+        assertEquals(addressBook.getTaskList(), laterSnapshot.getTaskList());
+    }
+
+    @Test
+    public void getStudentsInGroup_afterEditingMember_returnsEditedMember() {
+        addressBook.addStudent(ALICE);
+        addressBook.addGroup(new Group(DUMMY_GROUP));
+        Group group = addressBook.getGroupList().get(0);
+        addressBook.addStudentToGroup(ALICE, group);
+        Student aliceInGroup = addressBook.getStudentList().get(0);
+        Group groupBeforeEdit = new Group(group);
+
+        Student editedAlice = new PersonBuilder(aliceInGroup).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setStudent(aliceInGroup, editedAlice);
+        assertEquals(groupBeforeEdit, addressBook.getGroupList().get(0));
+        assertEquals(List.of(editedAlice), addressBook.getStudentsInGroup(group));
+        assertTrue(addressBook.hasStudentInGroup(editedAlice, group));
+    }
+
+    @Test
+    public void incrementAndDecrementTask_differentCase_updatesSameTask() {
+        addressBook.addTask(new Task(TASK_PENDING));
+        Task differentCase = new Task(new TaskName(TASK_PENDING.getTaskName().toString().toUpperCase()),
+            TASK_PENDING.getDeadline());
+
+        addressBook.incrementTask(differentCase);
+        assertEquals(2, addressBook.getTaskList().get(0).getGroupsWithTask());
+        addressBook.decrementTask(differentCase);
+        addressBook.decrementTask(TASK_PENDING);
+        // no group has the task any more
+        assertFalse(addressBook.hasTask(TASK_PENDING));
+    }
+
+    @Test
+    public void getGroupsWithTask_afterChanges_listsGroupsByStatus() {
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-4")));
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-5")));
+        Group first = addressBook.getGroupList().get(0);
+        Group second = addressBook.getGroupList().get(1);
+        addressBook.addTaskToGroup(new Task(TASK_PENDING), second);
+        addressBook.addTaskToGroup(new Task(TASK_PENDING), first);
+        addressBook.takeChanges();
+        assertEquals(List.of(first, second), addressBook.getGroupsWithTask(TASK_PENDING, Status.PENDING));
+
+        Task completed = new Task(TASK_PENDING.getTaskName(), TASK_PENDING.getDeadline(), Status.COMPLETED, 1);
+        addressBook.setTask(TASK_PENDING, completed, first);
+        assertEquals(List.of(second), addressBook.getGroupsWithTask(TASK_PENDING, Status.PENDING));
+        assertEquals(List.of(first), addressBook.getGroupsWithTask(TASK_PENDING, Status.COMPLETED));
+
+        addressBook.revertChanges(addressBook.takeChanges());
+        assertEquals(addressBook.getGroupList(), addressBook.getGroupsWithTask(TASK_PENDING, Status.PENDING));
+        assertEquals(List.of(), addressBook.getGroupsWithTask(TASK_PENDING, Status.COMPLETED));
+
+        addressBook.removeGroup(addressBook.getGroupList().get(0));
+        addressBook.deleteTaskFromGroup(TASK_PENDING, addressBook.getGroupList().get(0));
+        assertEquals(List.of(), addressBook.getGroupsWithTask(TASK_PENDING));
+    }
+
+    @Test
+    public void getGroupsWithTask_differentCase_findsSameGroups() {
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-4")));
+        Group group = addressBook.getGroupList().get(0);
+        addressBook.addTaskToGroup(new Task(TASK_PENDING), group);
+        Task differentCase = new Task(new TaskName(TASK_PENDING.getTaskName().toString().toUpperCase()),
+            TASK_PENDING.getDeadline());
+
+        assertEquals(List.of(group), addressBook.getGroupsWithTask(differentCase));
+        assertEquals(List.of(group), addressBook.getGroupsWithTask(differentCase, Status.PENDING));
+        addressBook.deleteTaskFromGroup(TASK_PENDING, group);
+        assertEquals(List.of(), addressBook.getGroupsWithTask(differentCase));
+    }
+
+    @Test
+    public void setStatus_deadlinesPassing_marksPassedTasksOverdue() {
+        Task weekOne = new TaskBuilder().withTaskName("Weekly Quiz").build();
+        Task weekTwo = new TaskBuilder().withTaskName("Weekly Quiz")
+            .withDeadline(LocalDateTime.of(2024, 10, 21, 12, 0)).build();
+        addressBook.addTask(new Task(weekOne));
+        addressBook.addTask(new Task(weekTwo));
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-4")));
+        Group group = addressBook.getGroupList().get(0);
+        addressBook.takeChanges();
+        addressBook.addTaskToGroup(new Task(weekOne), group);
+        addressBook.addTaskToGroup(new Task(weekTwo), group);
+
+        assertTrue(addressBook.setStatus(LocalDateTime.of(2024, 10, 15, 0, 0)));
+        assertEquals(Status.OVERDUE, addressBook.getTaskList().get(0).getStatus());
+        assertEquals(Status.PENDING, addressBook.getTaskList().get(1).getStatus());
+        assertEquals(List.of(group), addressBook.getGroupsWithTask(weekOne, Status.OVERDUE));
+        assertEquals(List.of(group), addressBook.getGroupsWithTask(weekTwo, Status.PENDING));
+        assertEquals(Status.OVERDUE, addressBook.snapshot().getTaskList().get(0).getStatus());
+        assertFalse(addressBook.setStatus(LocalDateTime.of(2024, 10, 15, 0, 0)));
+
+        // undoing the additions to the group and redoing them restores pending copies, which are checked again
+        ChangeSet changes = addressBook.takeChanges();
+        addressBook.revertChanges(changes);
+        addressBook.applyChanges(changes);
+        assertEquals(List.of(addressBook.getGroupList().get(0)), addressBook.getGroupsWithTask(weekOne,
+            Status.PENDING));
+        assertTrue(addressBook.setStatus(LocalDateTime.of(2024, 10, 22, 0, 0)));
+        assertEquals(Status.OVERDUE, addressBook.getTaskList().get(1).getStatus());
+        assertEquals(List.of(), addressBook.getGroupsWithTask(weekOne, Status.PENDING));
+        assertEquals(List.of(), addressBook.getGroupsWithTask(weekTwo, Status.PENDING));
+    }
+
+    @Test
+    public void setTask_markTaskInGroup_replacesOnlyChangedRows() {
+        Task report = new TaskBuilder().withTaskName("Final report").build();
+        Task quiz = new TaskBuilder().withTaskName("Weekly Quiz").build();
+        addressBook.addTask(new Task(report));
+        addressBook.addTask(new Task(quiz));
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-3")));
+        addressBook.addGroup(new Group(new GroupName("CS2103-F12-4")));
+        Group group = addressBook.getGroupList().get(1);
+        addressBook.addTaskToGroup(new Task(report), group);
+        addressBook.addTaskToGroup(new Task(quiz), group);
+
+        List<String> groupChanges = new ArrayList<>();
+        List<String> taskChanges = new ArrayList<>();
+        addressBook.getGroupList().addListener((ListChangeListener<Group>) change -> describe(change, groupChanges));
+        addressBook.getTaskList().addListener((ListChangeListener<Task>) change -> describe(change, taskChanges));
+        Task groupQuiz = group.getTasks().stream().filter(quiz::isSameTask).findFirst().orElseThrow();
+        addressBook.setTask(groupQuiz, new Task(groupQuiz.getTaskName(), groupQuiz.getDeadline(), Status.COMPLETED,
+            groupQuiz.getGroupsWithTask()), group);
+
+        assertEquals(List.of("replaced 1 to 2"), groupChanges);
+        assertEquals(List.of("replaced 1 to 2"), taskChanges);
+        assertEquals(List.of(group), addressBook.getGroupsWithTask(quiz, Status.COMPLETED));
+    }
+
+    @Test
+    public void revertChanges_studentEditedTwice_replacesOnlyThatRow() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.takeChanges();
+        List<Student> originalStudents = List.copyOf(addressBook.getStudentList());
+        Student benson = originalStudents.get(1);
+        Student tagged = new PersonBuilder(benson).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setStudent(benson, tagged);
+        addressBook.setStudent(tagged, new PersonBuilder(tagged).withName("Benson Tan").build());
+        ChangeSet changes = addressBook.takeChanges();
+
+        List<String> studentChanges = new ArrayList<>();
+        addressBook.getStudentList().addListener((ListChangeListener<Student>) change ->
+            describe(change, studentChanges));
+        addressBook.revertChanges(changes);
+        assertEquals(List.of("replaced 1 to 2"), studentChanges);
+        assertEquals(originalStudents, addressBook.getStudentList());
+
+        studentChanges.clear();
+        addressBook.applyChanges(changes);
+        assertEquals(List.of("replaced 1 to 2"), studentChanges);
+        assertEquals("Benson Tan", addressBook.getStudentList().get(1).getName().getFullName());
+    }
+
+    @Test
+    public void revertChanges_studentsReordered_restoresOrder() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.takeChanges();
+        List<Student> originalStudents = List.copyOf(addressBook.getStudentList());
+        List<Student> reordered = new ArrayList<>(originalStudents);
+        Collections.swap(reordered, 2, 4);
+        addressBook.setStudents(reordered);
+        ChangeSet changes = addressBook.takeChanges();
+
+        addressBook.revertChanges(changes);
+        assertEquals(originalStudents, addressBook.getStudentList());
+        assertEquals(originalStudents, addressBook.snapshot().getStudentList());
+        addressBook.applyChanges(changes);
+        assertEquals(reordered, addressBook.getStudentList());
+        assertEquals(reordered, addressBook.snapshot().getStudentList());
+    }
+
+    private static void describe(ListChangeListener.Change<?> change, List<String> descriptions) {
+        while (change.next()) {
+            descriptions.add((change.wasReplaced() ? "replaced " : "changed ") + change.getFrom() + " to "
+                + change.getTo());
+        }
+    }
+
+    @Test
+    public void searchTasks_tasksSharingNames_acceptsSameTasksAsQuery() {
+        Task weekOne = new TaskBuilder().withTaskName("Weekly Quiz").build();
+        Task weekTwo = new TaskBuilder().withTaskName("weekly quiz")
+            .withDeadline(LocalDateTime.of(2024, 10, 21, 12, 0)).build();
+        Task report = new TaskBuilder().withTaskName("Final report").build();
+        addressBook.addTask(weekOne);
+        addressBook.addTask(weekTwo);
+        addressBook.addTask(report);
+
+        for (List<String> keywords : List.of(List.of("QUIZ"), List.of("ly q", "report"), List.of("z"),
+                List.of("exam"))) {
+            TaskNameContainsKeywordsPredicate query = new TaskNameContainsKeywordsPredicate(keywords);
+            Predicate<Task> search = addressBook.searchTasks(query);
+            for (Task task : addressBook.getTaskList()) {
+                assertEquals(query.test(task), search.test(task), keywords + " " + task);
+            }
+        }
+
+        // tasks named after the search are tested against the query itself
+        Predicate<Task> search = addressBook.searchTasks(new TaskNameContainsKeywordsPredicate(List.of("exam")));
+        Task exam = new TaskBuilder().withTaskName("Midterm exam").build();
+        addressBook.addTask(exam);
+        assertTrue(search.test(exam));
+        addressBook.deleteTask(weekOne);
+        assertTrue(addressBook.searchTasks(new TaskNameContainsKeywordsPredicate(List.of("quiz"))).test(weekTwo));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{students=" + addressBook.getStudentList() + "}";
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -112,6 +113,37 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void commitTransaction_filtersSetInTransaction_appliesLastFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(student -> student.equals(BENSON));
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getStudentList());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMadeInTransaction_restoresModel() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(student -> student.equals(ALICE));
+        modelManager.takeChanges();
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.addGroup(DUMMY_GROUP);
+        modelManager.setStateGroups();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        modelManager.rollbackTransaction();
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getStudentList());
+        assertFalse(modelManager.hasGroup(DUMMY_GROUP));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(new UserPrefs().getState(), modelManager.getState());
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
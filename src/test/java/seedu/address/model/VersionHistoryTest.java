@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.TEAM_ONE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.exceptions.RedoLimitException;
+import seedu.address.model.exceptions.UndoLimitException;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.testutil.TypicalTasks;
+
+public class VersionHistoryTest {
+
+    private ModelManager model;
+    private VersionHistory versionHistory;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        versionHistory = new VersionHistory();
+        versionHistory.addVersion(model);
+    }
+
+    @Test
+    public void addVersion_onlyKeepsChanges() {
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+
+        assertEquals(1, versionHistory.getCurrentVersionIndex());
+        ChangeSet changes = versionHistory.getChangeSets().get(0);
+        assertEquals(1, changes.getStudentChanges().size());
+        assertTrue(changes.getGroupChanges().isEmpty());
+        assertTrue(changes.getTaskChanges().isEmpty());
+    }
+
+    @Test
+    public void undoVersion_redoVersion_restoresAddressBook() throws Exception {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        model.addPerson(AMY);
+        model.deletePerson(ALICE);
+        versionHistory.addVersion(model);
+        AddressBook edited = new AddressBook(model.getAddressBook());
+
+        versionHistory.undoVersion(model);
+        assertEquals(original, model.getAddressBook());
+
+        versionHistory.redoVersion(model);
+        assertEquals(edited, model.getAddressBook());
+    }
+
+    @Test
+    public void undoVersion_groupAndTaskChanges_restoresAddressBook() throws Exception {
+        Group group = new Group(new GroupName(TEAM_ONE));
+        model.addGroup(group);
+        model.addPersonToGroup(ALICE, group);
+        versionHistory.addVersion(model);
+        AddressBook withGroup = new AddressBook(model.getAddressBook());
+
+        model.addTask(TypicalTasks.TASK_PENDING);
+        model.addTaskToGroup(TypicalTasks.TASK_PENDING, model.getGroupByName(group.getGroupName()));
+        versionHistory.addVersion(model);
+
+        versionHistory.undoVersion(model);
+        assertEquals(withGroup, model.getAddressBook());
+        assertTrue(model.getGroupByName(group.getGroupName()).getTasks().isEmpty());
+
+        versionHistory.undoVersion(model);
+        assertFalse(model.containsGroupName(group.getGroupName()));
+        assertFalse(model.getPersonByNumber(ALICE.getStudentNumber()).getGroupName().isPresent());
+    }
+
+    @Test
+    public void undoVersion_uncommittedChanges_discarded() throws Exception {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+
+        // changes of a command that did not complete
+        model.addPerson(BOB);
+
+        versionHistory.undoVersion(model);
+        assertEquals(original, model.getAddressBook());
+    }
+
+    @Test
+    public void addVersion_afterUndo_discardsRedoVersions() throws Exception {
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        versionHistory.undoVersion(model);
+
+        model.addPerson(BOB);
+        versionHistory.addVersion(model);
+
+        assertEquals(1, versionHistory.getChangeSets().size());
+        assertThrows(RedoLimitException.class, () -> versionHistory.redoVersion(model));
+    }
+
+    @Test
+    public void undoVersion_noPreviousVersion_throwsUndoLimitException() {
+        assertThrows(UndoLimitException.class, () -> versionHistory.undoVersion(model));
+    }
+
+    @Test
+    public void addVersion_exceedsLimit_dropsOldestVersion() {
+        for (int i = 0; i < 150; i++) {
+            model.sortPersonList((first, second) -> 0);
+            versionHistory.addVersion(model);
+        }
+        assertEquals(99, versionHistory.getCurrentVersionIndex());
+        assertEquals(99, versionHistory.getChangeSets().size());
+    }
+}
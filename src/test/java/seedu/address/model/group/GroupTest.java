@@ -45,7 +45,7 @@ public class GroupTest {
     public void toStringMethod() {
         String expected =
                 Group.class.getCanonicalName() + "{groupname=" + FIRST_GROUP.getGroupName()
-                        + ", students=" + FIRST_GROUP.getStudents() + "}";
+                        + ", students=" + FIRST_GROUP.getStudentNumbers() + "}";
         assertEquals(expected, FIRST_GROUP.toString());
     }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.group.exceptions.DuplicateGroupException;
@@ -36,6 +38,14 @@ public class UniqueGroupListTest {
         assertThrows(NullPointerException.class, () -> uniqueGroupList.add(null));
     }
 
+    @Test
+    public void setGroups_listWithDuplicateGroups_throwsDuplicateGroupException() {
+        Group differentCase = new Group(new GroupName("cs2103-f12-4"));
+        assertThrows(DuplicateGroupException.class, () -> uniqueGroupList.setGroups(Arrays.asList(DUMMY_GROUP,
+                new Group(new GroupName("CS2103-F12-5")), differentCase)));
+        assertTrue(uniqueGroupList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void add_duplicateGroup_throwsDuplicateGroupException() {
         uniqueGroupList.add(DUMMY_GROUP);
@@ -86,6 +96,28 @@ public class UniqueGroupListTest {
         assertThrows(DuplicateGroupException.class, () -> uniqueGroupList.setGroup(DUMMY_GROUP, DUMMY_GROUP));
     }
 
+    @Test
+    public void findGroupByName_differentCase_returnsGroup() {
+        uniqueGroupList.add(DUMMY_GROUP);
+        assertEquals(DUMMY_GROUP, uniqueGroupList.findGroupByName(new GroupName("cs2103-f12-4")));
+        assertTrue(uniqueGroupList.containsGroupWithName(new GroupName("Cs2103-F12-04")));
+    }
+
+    @Test
+    public void findGroupByName_afterChanges_returnsGroupInList() {
+        Group other = new Group(new GroupName("CS2103T-W1-1"));
+        Group renamed = new Group(new GroupName("CS2103T-W1-2"));
+        uniqueGroupList.add(DUMMY_GROUP);
+        uniqueGroupList.add(other);
+        uniqueGroupList.setGroup(other, renamed);
+        assertEquals(renamed, uniqueGroupList.getGroupByName(renamed.getGroupName()));
+        assertEquals(null, uniqueGroupList.findGroupByName(other.getGroupName()));
+
+        uniqueGroupList.remove(DUMMY_GROUP);
+        assertEquals(0, uniqueGroupList.indexOf(renamed));
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.getGroupByName(DUMMY_GROUP.getGroupName()));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueGroupList.asUnmodifiableObservableList().toString(), uniqueGroupList.toString());
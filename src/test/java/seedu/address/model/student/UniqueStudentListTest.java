@@ -7,13 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.group.GroupName;
 import seedu.address.model.student.exceptions.DuplicatePersonException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -161,6 +164,66 @@ public class UniqueStudentListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.setPersons(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Student editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.setPersons(listWithDuplicateStudents));
+        assertTrue(uniqueStudentList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void getStudentByNumber_afterChanges_returnsStudentInList() {
+        uniqueStudentList.setPersons(Arrays.asList(ALICE, BOB));
+        Student editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniqueStudentList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniqueStudentList.getStudentByNumber(ALICE.getStudentNumber()));
+        assertEquals(0, uniqueStudentList.indexOf(editedAlice));
+
+        uniqueStudentList.remove(editedAlice);
+        assertThrows(StudentNotFoundException.class, () ->
+            uniqueStudentList.getStudentByNumber(ALICE.getStudentNumber()));
+        assertEquals(0, uniqueStudentList.indexOf(BOB));
+    }
+
+    @Test
+    public void getStudentByNumber_sameNumberDifferentEmail_returnsFirstInList() {
+        Student aliceWithOtherEmail = new PersonBuilder(ALICE).withEmail("other@u.nus.edu").build();
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(aliceWithOtherEmail);
+        uniqueStudentList.replaceRange(0, 1, List.of(ALICE));
+        uniqueStudentList.replaceRange(0, 0, List.of(BOB));
+
+        assertEquals(ALICE, uniqueStudentList.getStudentByNumber(ALICE.getStudentNumber()));
+        assertEquals(2, uniqueStudentList.indexOf(aliceWithOtherEmail));
+        assertTrue(uniqueStudentList.contains(aliceWithOtherEmail));
+    }
+
+    @Test
+    public void search_variousQueries_acceptsSameStudentsAsQuery() {
+        uniqueStudentList.setPersons(getTypicalPersons());
+        for (List<String> keywords : List.of(List.of("ALICE"), List.of("f12-3", "owesmoney"), List.of("nogroup"),
+                List.of("al"), List.of("a0888888m", "zzz"), List.of("lice Pa"))) {
+            StudentMatchesQueryPredicate query = new StudentMatchesQueryPredicate(keywords);
+            Predicate<Student> search = uniqueStudentList.search(query);
+            for (Student student : uniqueStudentList) {
+                assertEquals(query.test(student), search.test(student), keywords + " " + student);
+            }
+        }
+    }
+
+    @Test
+    public void search_studentEditedAfterSearch_testsEditedStudent() {
+        uniqueStudentList.setPersons(getTypicalPersons());
+        StudentMatchesQueryPredicate query = new StudentMatchesQueryPredicate(List.of("f12-9"));
+        Predicate<Student> search = uniqueStudentList.search(query);
+        assertFalse(search.test(ALICE));
+
+        Student aliceInGroup = ALICE.setStudentGroup(new GroupName("CS2103-F12-9"));
+        uniqueStudentList.setPerson(ALICE, aliceInGroup);
+        assertTrue(search.test(aliceInGroup));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
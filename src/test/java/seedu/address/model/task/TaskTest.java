@@ -16,6 +16,14 @@ public class TaskTest {
     private static final Task THIRD_TASK = new Task(new TaskName("First task"), new Deadline(LocalDateTime.of(2024,
         10, 14, 12, 0)));
 
+    @Test
+    public void getIdentityKey() {
+        Task differentCase = new Task(new TaskName("FIRST TASK"), FIRST_TASK.getDeadline());
+        assertEquals(FIRST_TASK.getIdentityKey(), differentCase.getIdentityKey());
+        assertFalse(FIRST_TASK.getIdentityKey().equals(SECOND_TASK.getIdentityKey()));
+        assertFalse(FIRST_TASK.getIdentityKey().equals(THIRD_TASK.getIdentityKey()));
+    }
+
     @Test
     public void testIsSameTask() {
         // different task name, same deadline -> false
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncWriterTest {
+
+    private AsyncWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        writer = new AsyncWriter();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    public void submit_burstWithSameKey_collapsedIntoFewWrites() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = new ArrayList<>();
+        writer.submit("file", () -> {
+            started.countDown();
+            await(release);
+            written.add(0);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // submitted while the first write is in progress
+        for (int i = 1; i <= 20; i++) {
+            int value = i;
+            writer.submit("file", () -> written.add(value));
+        }
+        release.countDown();
+        writer.flush();
+
+        assertEquals(2, writer.getCompletedWrites());
+        assertEquals(List.of(0, 20), written);
+    }
+
+    @Test
+    public void submit_withoutKey_neverCollapsed() {
+        List<Integer> written = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            writer.submit(() -> written.add(value));
+        }
+        writer.flush();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), written);
+    }
+
+    @Test
+    public void submit_replacingWrite_performedAfterEarlierWrites() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new ArrayList<>();
+        writer.submit(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // submitted while the first write is in progress, as the data and journal saves of two commands are
+        writer.submit("data", () -> written.add("data 1"));
+        writer.submit(() -> written.add("journal 1"));
+        writer.submit("data", () -> written.add("data 2"));
+        writer.submit(() -> written.add("journal 2"));
+        release.countDown();
+        writer.flush();
+
+        assertEquals(List.of("journal 1", "data 2", "journal 2"), written);
+    }
+
+    @Test
+    public void submit_writeFails_errorHandlerCalled() {
+        IOException exception = new IOException("dummy IO exception");
+        List<IOException> errors = new ArrayList<>();
+        writer.setErrorHandler(errors::add);
+        writer.submit("file", () -> {
+            throw exception;
+        });
+        writer.flush();
+
+        assertEquals(List.of(exception), errors);
+    }
+
+    @Test
+    public void submit_writeFailsUnexpectedly_errorHandlerCalled() {
+        RuntimeException exception = new IllegalStateException("dummy unexpected exception");
+        List<IOException> errors = new ArrayList<>();
+        writer.setErrorHandler(errors::add);
+        writer.submit("file", () -> {
+            throw exception;
+        });
+        writer.flush();
+
+        assertEquals(1, errors.size());
+        assertEquals(exception, errors.get(0).getCause());
+    }
+
+    @Test
+    public void submit_afterShutdown_throwsIllegalStateException() {
+        writer.shutdown();
+        assertThrows(IllegalStateException.class, () -> writer.submit("file", () -> { }));
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+}
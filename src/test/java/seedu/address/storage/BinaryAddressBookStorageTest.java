@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.TEAM_ONE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.TASK_COMPLETED;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Files.writeString(filePath(), "this file is not in binary format!");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath());
+        Files.write(filePath(), Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptedCount_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath());
+        byte[] maxCount = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+        // a student count far larger than the file
+        Files.write(filePath(), concat(getHeader(), maxCount));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // one student, whose student number is a new string far longer than the file
+        Files.write(filePath(), concat(getHeader(), new byte[] {1, 0}, maxCount, new byte[] {'A', '0'}));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getAddressBookWithGroup();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath());
+
+        storage.saveAddressBook(original);
+        AddressBook read = (AddressBook) storage.readAddressBook().get();
+        assertEquals(original, read);
+        Group group = read.getGroupList().get(0);
+        assertEquals(1, group.getStudentNumbers().size());
+        assertEquals(Status.COMPLETED, group.getTasks().iterator().next().getStatus());
+
+        original.addStudent(AMY);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getAddressBookWithGroup();
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(original);
+
+        assertTrue(Files.size(filePath()) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void convertAddressBook_jsonToBinaryAndBack_success() throws Exception {
+        AddressBook original = getAddressBookWithGroup();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath());
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(StorageConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+        // the binary file already exists, so it is not overwritten
+        assertFalse(StorageConverter.convertAddressBook(jsonStorage, binaryStorage));
+
+        JsonAddressBookStorage convertedStorage = new JsonAddressBookStorage(testFolder.resolve("converted.json"));
+        assertTrue(StorageConverter.convertAddressBook(binaryStorage, convertedStorage));
+        assertEquals(original, convertedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertAddressBook_sourceSavedAfterTarget_targetReplaced() throws Exception {
+        AddressBook original = getAddressBookWithGroup();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath());
+        jsonStorage.saveAddressBook(original);
+        assertTrue(StorageConverter.convertAddressBook(jsonStorage, binaryStorage));
+
+        AddressBook edited = getAddressBookWithGroup();
+        edited.addStudent(AMY);
+        jsonStorage.saveAddressBook(edited);
+        FileTime binaryTime = Files.getLastModifiedTime(filePath());
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(),
+                FileTime.fromMillis(binaryTime.toMillis() + 1000));
+        assertTrue(StorageConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertEquals(edited, binaryStorage.readAddressBook().get());
+
+        // the json file is now older than the binary file
+        assertFalse(StorageConverter.convertAddressBook(binaryStorage, jsonStorage));
+        Files.setLastModifiedTime(filePath(), FileTime.fromMillis(binaryTime.toMillis() + 2000));
+        assertTrue(StorageConverter.convertAddressBook(binaryStorage, jsonStorage));
+    }
+
+    private static byte[] getHeader() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        new DataOutputStream(header).writeInt(BinaryWriter.MAGIC);
+        header.write(BinaryWriter.FORMAT_VERSION);
+        header.write(BinaryWriter.KIND_ADDRESS_BOOK);
+        return header.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... parts) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            content.write(part);
+        }
+        return content.toByteArray();
+    }
+
+    private Path filePath() {
+        return testFolder.resolve("addressbook.bin");
+    }
+
+    private static AddressBook getAddressBookWithGroup() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addGroup(new Group(new GroupName(TEAM_ONE)));
+        addressBook.addStudentToGroup(ALICE, addressBook.getGroupList().get(0));
+        addressBook.addTask(new Task(TASK_COMPLETED));
+        addressBook.addTaskToGroup(new Task(TASK_COMPLETED), addressBook.getGroupList().get(0));
+        return addressBook;
+    }
+}
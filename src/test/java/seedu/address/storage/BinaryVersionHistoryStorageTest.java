@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionHistory;
+
+public class BinaryVersionHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readVersionHistory_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryVersionHistoryStorage(filePath()).readVersionHistory().isPresent());
+    }
+
+    @Test
+    public void readAndSaveVersionHistory_allInOrder_success() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        VersionHistory versionHistory = new VersionHistory();
+        versionHistory.addVersion(model);
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        model.deletePerson(ALICE);
+        versionHistory.addVersion(model);
+        versionHistory.undoVersion(model);
+        versionHistory.setCurrentData(model.getAddressBookSnapshot());
+
+        BinaryVersionHistoryStorage storage = new BinaryVersionHistoryStorage(filePath());
+        storage.saveVersionHistory(versionHistory);
+        VersionHistory read = storage.readVersionHistory().get();
+        assertEquals(versionHistory.getCurrentVersionIndex(), read.getCurrentVersionIndex());
+        assertEquals(versionHistory.getChangeSets(), read.getChangeSets());
+        assertEquals(versionHistory.getDataFingerprint(), read.getDataFingerprint());
+    }
+
+    @Test
+    public void convertVersionHistory_journalSavedAfterTarget_targetReplaced() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        VersionHistory versionHistory = new VersionHistory();
+        versionHistory.addVersion(model);
+        BinaryVersionHistoryStorage binaryStorage = new BinaryVersionHistoryStorage(filePath());
+        binaryStorage.saveVersionHistory(versionHistory);
+
+        JournaledVersionHistoryStorage jsonStorage =
+                new JournaledVersionHistoryStorage(testFolder.resolve("versionhistory.json"));
+        jsonStorage.saveVersionHistory(versionHistory);
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        jsonStorage.saveVersionHistory(versionHistory);
+
+        FileTime binaryTime = FileTime.fromMillis(Files.getLastModifiedTime(jsonStorage.getJournalFilePath())
+                .toMillis() + 1000);
+        Files.setLastModifiedTime(filePath(), binaryTime);
+        assertFalse(StorageConverter.convertVersionHistory(jsonStorage, binaryStorage));
+
+        // only the journal is newer than the binary file
+        Files.setLastModifiedTime(jsonStorage.getJournalFilePath(), FileTime.fromMillis(binaryTime.toMillis() + 1000));
+        assertTrue(StorageConverter.convertVersionHistory(jsonStorage, binaryStorage));
+        assertEquals(versionHistory.getChangeSets(), binaryStorage.readVersionHistory().get().getChangeSets());
+    }
+
+    private Path filePath() {
+        return testFolder.resolve("versionhistory.bin");
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.DataFingerprint;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionHistory;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledVersionHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ModelManager model;
+    private VersionHistory versionHistory;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        versionHistory = new VersionHistory();
+        versionHistory.addVersion(model);
+    }
+
+    @Test
+    public void readVersionHistory_missingFiles_emptyResult() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath());
+        assertFalse(storage.readVersionHistory().isPresent());
+    }
+
+    @Test
+    public void saveVersionHistory_eachCommand_appendsOneRecord() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath());
+        storage.saveVersionHistory(versionHistory);
+        String baseContent = Files.readString(filePath());
+
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        model.deletePerson(ALICE);
+        versionHistory.addVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        versionHistory.undoVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        // saving an unchanged version history writes nothing
+        storage.saveVersionHistory(versionHistory);
+
+        assertEquals(baseContent, Files.readString(filePath()));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameHistory(versionHistory, new JournaledVersionHistoryStorage(filePath()).readVersionHistory().get());
+    }
+
+    @Test
+    public void saveVersionHistory_newCommandAfterUndo_replaysCorrectly() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath());
+        storage.saveVersionHistory(versionHistory);
+
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        versionHistory.undoVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        model.addPerson(BOB);
+        versionHistory.addVersion(model);
+        storage.saveVersionHistory(versionHistory);
+
+        VersionHistory read = new JournaledVersionHistoryStorage(filePath()).readVersionHistory().get();
+        assertSameHistory(versionHistory, read);
+        assertEquals(1, read.getChangeSets().size());
+    }
+
+    @Test
+    public void readVersionHistory_incompleteLastRecord_ignored() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath());
+        storage.saveVersionHistory(versionHistory);
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        storage.saveVersionHistory(versionHistory);
+        Files.writeString(storage.getJournalFilePath(), "{\"sequence\":9,\"chan",
+                StandardOpenOption.APPEND);
+
+        assertSameHistory(versionHistory, new JournaledVersionHistoryStorage(filePath()).readVersionHistory().get());
+    }
+
+    @Test
+    public void saveVersionHistory_journalPastThreshold_compacts() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath(), 3);
+        storage.saveVersionHistory(versionHistory);
+        for (int i = 0; i < 5; i++) {
+            model.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withStudentNumber("A000000" + i + "Z").withEmail("student" + i + "@u.nus.edu").build());
+            versionHistory.addVersion(model);
+            storage.saveVersionHistory(versionHistory);
+            storage.awaitCompaction();
+        }
+
+        int journalRecords = Files.readAllLines(storage.getJournalFilePath()).size();
+        assertTrue(journalRecords < 3);
+        VersionHistory compacted = new JsonVersionHistoryStorage(filePath()).readVersionHistory().get();
+        assertEquals(5 - journalRecords, compacted.getChangeSets().size());
+        assertSameHistory(versionHistory, new JournaledVersionHistoryStorage(filePath()).readVersionHistory().get());
+    }
+
+    @Test
+    public void saveVersionHistory_undo_savesFingerprintOfCurrentData() throws Exception {
+        JournaledVersionHistoryStorage storage = new JournaledVersionHistoryStorage(filePath());
+        model.addPerson(AMY);
+        versionHistory.addVersion(model);
+        versionHistory.setCurrentData(model.getAddressBookSnapshot());
+        storage.saveVersionHistory(versionHistory);
+        versionHistory.undoVersion(model);
+        versionHistory.setCurrentData(model.getAddressBookSnapshot());
+        storage.saveVersionHistory(versionHistory);
+
+        VersionHistory read = new JournaledVersionHistoryStorage(filePath()).readVersionHistory().get();
+        assertSameHistory(versionHistory, read);
+        assertEquals(DataFingerprint.of(getTypicalAddressBook()), read.getDataFingerprint().longValue());
+    }
+
+    private Path filePath() {
+        return testFolder.resolve("versionhistory.json");
+    }
+
+    private static void assertSameHistory(VersionHistory expected, VersionHistory actual) {
+        assertEquals(expected.getCurrentVersionIndex(), actual.getCurrentVersionIndex());
+        assertEquals(expected.getChangeSets(), actual.getChangeSets());
+        assertEquals(expected.getDataFingerprint(), actual.getDataFingerprint());
+    }
+}
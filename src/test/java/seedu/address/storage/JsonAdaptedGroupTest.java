@@ -7,6 +7,8 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -47,4 +49,21 @@ public class JsonAdaptedGroupTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, GroupName.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
     }
+
+    @Test
+    public void toModelType_unknownStudentNumber_throwsIllegalValueException() {
+        JsonAdaptedGroup group = new JsonAdaptedGroup("CS2103T-I12-10", null, null, List.of(VALID_STUDENT_NUMBER),
+                null);
+        assertThrows(IllegalValueException.class, JsonAdaptedGroup.MESSAGE_UNKNOWN_STUDENT, () ->
+                group.toModelType(Set.of(), Map.of()));
+    }
+
+    @Test
+    public void toModelType_embeddedStudent_refersToStudentNumber() throws Exception {
+        JsonAdaptedPerson student = new JsonAdaptedPerson(VALID_NAME, VALID_EMAIL, VALID_TAGS, VALID_STUDENT_NUMBER,
+                "!");
+        JsonAdaptedGroup group = new JsonAdaptedGroup("CS2103T-I12-10", List.of(student), null);
+        assertEquals(Set.of(BENSON.getStudentNumber()),
+                group.toModelType(Set.of(BENSON.getStudentNumber()), Map.of()).getStudentNumbers());
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.TASK_PENDING;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+
+public class JsonAdaptedTaskStatusTest {
+    private static final String VALID_TASK_NAME = TASK_PENDING.getTaskName().toString();
+    private static final String VALID_DEADLINE = TASK_PENDING.getDeadline().deadlineInInputFormat();
+    private static final Task LISTED_TASK = new Task(TASK_PENDING.getTaskName(), TASK_PENDING.getDeadline(),
+            Status.PENDING, 2);
+    private static final Map<List<Object>, Task> LISTED_TASKS = Map.of(LISTED_TASK.getIdentityKey(), LISTED_TASK);
+
+    @Test
+    public void toModelType_listedTask_returnsGroupCopy() throws Exception {
+        JsonAdaptedTaskStatus taskStatus = new JsonAdaptedTaskStatus(VALID_TASK_NAME, VALID_DEADLINE, "COMPLETED");
+        Task task = taskStatus.toModelType(LISTED_TASKS);
+        assertEquals(LISTED_TASK, task);
+        assertEquals(Status.COMPLETED, task.getStatus());
+        assertEquals(2, task.getGroupsWithTask());
+    }
+
+    @Test
+    public void toModelType_differentCase_resolvesListedTask() throws Exception {
+        JsonAdaptedTaskStatus taskStatus = new JsonAdaptedTaskStatus(VALID_TASK_NAME.toUpperCase(), VALID_DEADLINE,
+                "PENDING");
+        assertEquals(2, taskStatus.toModelType(LISTED_TASKS).getGroupsWithTask());
+    }
+
+    @Test
+    public void toModelType_invalidStatus_throwsIllegalValueException() {
+        JsonAdaptedTaskStatus taskStatus = new JsonAdaptedTaskStatus(VALID_TASK_NAME, VALID_DEADLINE, "DONE");
+        assertThrows(IllegalValueException.class, Status.MESSAGE_CONSTRAINTS, () ->
+                taskStatus.toModelType(LISTED_TASKS));
+    }
+
+    @Test
+    public void toModelType_unknownTask_throwsIllegalValueException() {
+        JsonAdaptedTaskStatus taskStatus = new JsonAdaptedTaskStatus("Unknown task", VALID_DEADLINE, "PENDING");
+        assertThrows(IllegalValueException.class, JsonAdaptedTaskStatus.MESSAGE_UNKNOWN_TASK, () ->
+                taskStatus.toModelType(LISTED_TASKS));
+    }
+}
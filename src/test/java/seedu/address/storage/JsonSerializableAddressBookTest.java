@@ -1,16 +1,31 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.TEAM_ONE;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalTasks.TASK_COMPLETED;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.task.Status;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskName;
 import seedu.address.testutil.TypicalGroups;
 import seedu.address.testutil.TypicalPersons;
 
@@ -23,6 +38,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_GROUP_FILE = TEST_DATA_FOLDER.resolve("duplicateGroupAddressBook.json");
     private static final Path INVALID_GROUP_FILE = TEST_DATA_FOLDER.resolve("invalidGroupAddressBook.json");
     private static final Path TYPICAL_GROUPS_FILE = TEST_DATA_FOLDER.resolve("typicalGroupAddressBook.json");
+    private static final Path UNKNOWN_MEMBER_FILE = TEST_DATA_FOLDER.resolve("unknownMemberAddressBook.json");
+    private static final Path UNKNOWN_MEMBER_SCHEMA_TWO_FILE =
+            TEST_DATA_FOLDER.resolve("unknownMemberSchemaTwoAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -64,6 +85,23 @@ public class JsonSerializableAddressBookTest {
     }
 
 
+    @Test
+    public void toModelType_unknownMemberInVersionOneFile_memberDropped() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_MEMBER_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(Set.of(new StudentNumber("A0123456A")),
+                addressBookFromFile.getGroupList().get(0).getStudentNumbers());
+    }
+
+    @Test
+    public void toModelType_unknownMemberInVersionTwoFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonStream(UNKNOWN_MEMBER_SCHEMA_TWO_FILE,
+                JsonSerializableAddressBook::read).get();
+        assertThrows(IllegalValueException.class, JsonAdaptedGroup.MESSAGE_UNKNOWN_STUDENT,
+                dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_typicalGroupsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_GROUPS_FILE,
@@ -72,4 +110,67 @@ public class JsonSerializableAddressBookTest {
         AddressBook typicalPersonsAddressBook = TypicalGroups.getTypicalAddressBook();
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
+
+    @Test
+    public void read_typicalGroupsFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonStream(TYPICAL_GROUPS_FILE,
+                JsonSerializableAddressBook::read).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(TypicalGroups.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void write_typicalGroups_readBackSuccess() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalGroups.getTypicalAddressBook();
+        JsonUtil.writeJsonStream(file, generator -> JsonSerializableAddressBook.write(original, generator));
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
+    @Test
+    public void read_notAnObject_throwsDataLoadingException() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        FileUtil.writeToFile(file, "[]");
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonStream(file, JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void write_groupMembersAndTasks_writtenAsReferences() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addStudent(ALICE);
+        original.addGroup(new Group(new GroupName(TEAM_ONE)));
+        original.addStudentToGroup(ALICE, original.getGroupList().get(0));
+        original.addTask(new Task(TASK_COMPLETED));
+        original.addTaskToGroup(new Task(TASK_COMPLETED), original.getGroupList().get(0));
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.writeJsonStream(file, generator -> JsonSerializableAddressBook.write(original, generator));
+
+        String content = FileUtil.readFromFile(file);
+        assertTrue(content.contains("\"studentNumbers\""));
+        assertFalse(content.contains("\"students\""));
+        AddressBook loaded = JsonUtil.readJsonStream(file, JsonSerializableAddressBook::read).get().toModelType();
+        assertEquals(original, loaded);
+        Task groupTask = loaded.getGroupList().get(0).getTasks().iterator().next();
+        assertEquals(Status.COMPLETED, groupTask.getStatus());
+    }
+
+    @Test
+    public void write_groupTaskInDifferentCase_writtenAsReference() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addGroup(new Group(new GroupName(TEAM_ONE)));
+        original.addTask(new Task(TASK_COMPLETED));
+        Task differentCase = new Task(new TaskName(TASK_COMPLETED.getTaskName().toString().toUpperCase()),
+                TASK_COMPLETED.getDeadline());
+        original.addTaskToGroup(differentCase, original.getGroupList().get(0));
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.writeJsonStream(file, generator -> JsonSerializableAddressBook.write(original, generator));
+
+        String content = FileUtil.readFromFile(file);
+        assertTrue(content.contains("\"taskStatuses\""));
+        AddressBook loaded = JsonUtil.readJsonStream(file, JsonSerializableAddressBook::read).get().toModelType();
+        assertEquals(original, loaded);
+    }
 }
@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int SIZE = ParallelConverter.CHUNK_SIZE * 10 + 7;
+
+    @Test
+    public void convertAll_largeList_keepsOrder() throws Exception {
+        List<Integer> numbers = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+        List<String> expected = numbers.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(numbers, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_emptyList_emptyResult() throws Exception {
+        assertEquals(List.of(), ParallelConverter.convertAll(List.<Integer>of(), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_severalInvalidElements_throwsExceptionOfFirst() {
+        List<Integer> numbers = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+        int firstInvalid = ParallelConverter.CHUNK_SIZE * 3 + 1;
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () ->
+                ParallelConverter.convertAll(numbers, number -> {
+                    if (number >= firstInvalid && number % 2 == 1) {
+                        throw new IllegalValueException("invalid " + number);
+                    }
+                    return number;
+                }));
+    }
+}
@@ -60,6 +60,21 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_asyncWriter() throws Exception {
+        AsyncWriter writer = new AsyncWriter();
+        StorageManager asyncStorageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+        AddressBook original = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        // changes made after saving are not written
+        original.removeStudent(original.getStudentList().get(0));
+        ReadOnlyAddressBook retrieved = asyncStorageManager.readAddressBook().get();
+        assertEquals(expected, new AddressBook(retrieved));
+        writer.shutdown();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());